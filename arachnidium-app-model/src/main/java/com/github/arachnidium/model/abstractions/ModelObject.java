@@ -17,11 +17,14 @@
 
 package com.github.arachnidium.model.abstractions;
 
-import java.lang.reflect.Proxy;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import net.sf.cglib.proxy.MethodProxy;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
@@ -36,7 +39,7 @@ import com.github.arachnidium.core.components.common.Awaiting;
 import com.github.arachnidium.core.components.common.DriverLogs;
 import com.github.arachnidium.core.interfaces.IDestroyable;
 import com.github.arachnidium.model.abstractions.exceptionhandlers.ModelObjectExceptionHandler;
-import com.github.arachnidium.model.abstractions.exceptionhandlers.UsedImplicitExceptionHandlerReader;
+import com.github.arachnidium.model.abstractions.exceptionhandlers.ExceptionHandlerDispatcher;
 import com.github.arachnidium.model.interfaces.IDecomposable;
 import com.github.arachnidium.model.interfaces.IModelObjectExceptionHandler;
 import com.github.arachnidium.model.support.HowToGetByFrames;
@@ -70,39 +73,20 @@ public abstract class ModelObject<S extends Handle> implements IDestroyable,
 	protected final Awaiting awaiting; //performs waiting
 	protected final DriverLogs logs; //is for getting WebDriver logs
 	
-	//this is for interception and automatically handling exceptions
-	protected final HashSet<ModelObjectExceptionHandler> checkedInExceptionHandlers = new HashSet<ModelObjectExceptionHandler>();
+	//this is for interception and automatically handling exceptions.
+	//Each instance has its own handlers declared by the class.
+	private final AtomicReference<ExceptionHandlerDispatcher> exceptionHandlers;
 
-	// this will be invoked when some exception is caught out
-	IModelObjectExceptionHandler exceptionHandler = (IModelObjectExceptionHandler) Proxy
-			.newProxyInstance(
-					IModelObjectExceptionHandler.class.getClassLoader(),
-					new Class[] { IModelObjectExceptionHandler.class },
-					(proxy, method, args) -> {
-						// it needs to know exception
-						Throwable t = (Throwable) args[4];
-						for (ModelObjectExceptionHandler handler : checkedInExceptionHandlers) {
-							// it looks for the suitable handler
-							if (!handler.isThrowableInList(t.getClass())) {
-								continue;
-							}
-							
-							if (handler.getExpectedMessagePattern() != null){
-								if (!handler.doesExceptionMessageMatch(t)){
-									continue;
-								}
-							}
-							
-							try {
-								return method.invoke(handler, args);
-							} catch (Exception e) {
-								continue; // it wasn't the suitable
-												// handler
-							}
-						}
-						// if there are no suitable handlers
-						throw t;
-					});
+	/**
+	 * Checked in handlers are not kept here anymore. Handlers which are
+	 * added to this set directly are still used when some exception is
+	 * caught out. Access to it should be synchronized on the set.
+	 * 
+	 * @deprecated use {@link #checkInExceptionHandler(ModelObjectExceptionHandler)}
+	 * and {@link #checkOutExceptionHandler(ModelObjectExceptionHandler)}
+	 */
+	@Deprecated
+	protected final HashSet<ModelObjectExceptionHandler> checkedInExceptionHandlers = new HashSet<ModelObjectExceptionHandler>();
 
 	@SuppressWarnings("rawtypes")
 	final List<ModelObject> children = Collections
@@ -120,7 +104,8 @@ public abstract class ModelObject<S extends Handle> implements IDestroyable,
 		driverEncapsulation = handle.driverEncapsulation;
 		awaiting = new Awaiting(driverEncapsulation.getWrappedDriver());
 		logs = driverEncapsulation.getComponent(DriverLogs.class);
-		checkInExceptionHandlers(UsedImplicitExceptionHandlerReader.getDeclaredExceptionHandlers(this.getClass()));
+		exceptionHandlers = new AtomicReference<>(
+				ExceptionHandlerDispatcher.declaredBy(this.getClass()));
 	}
 
 	/**
@@ -147,7 +132,7 @@ public abstract class ModelObject<S extends Handle> implements IDestroyable,
 	 */
 	public void checkInExceptionHandler(
 			ModelObjectExceptionHandler exceptionHandler) {
-		checkedInExceptionHandlers.add(exceptionHandler);
+		checkInExceptionHandlers(Collections.singletonList(exceptionHandler));
 	}
 	
 	/**
@@ -165,19 +150,48 @@ public abstract class ModelObject<S extends Handle> implements IDestroyable,
 	 */
 	public void checkInExceptionHandlers(
 			List<ModelObjectExceptionHandler> exceptionHandlers) {
-		checkedInExceptionHandlers.addAll(exceptionHandlers);
+		this.exceptionHandlers.updateAndGet(d -> d.with(exceptionHandlers));
 	}
 
 	public void checkOutExceptionHandler(
 			ModelObjectExceptionHandler exceptionHandler) {
-		checkedInExceptionHandlers.remove(exceptionHandler);
+		checkOutExceptionHandlers(Collections.singletonList(exceptionHandler));
 	}
 	
 	public void checkOutExceptionHandlers(
 			List<ModelObjectExceptionHandler> exceptionHandlers) {
-		checkedInExceptionHandlers.removeAll(exceptionHandlers);
+		this.exceptionHandlers.updateAndGet(d -> d.without(exceptionHandlers));
 	}	
 
+	/**
+	 * This method is invoked when some exception is caught out.
+	 * It looks for the suitable checked in handler.
+	 * 
+	 * @see IModelObjectExceptionHandler#handleException(Object, Method, MethodProxy, Object[], Throwable)
+	 * 
+	 * @throws Throwable the given {@link Throwable} if there are no suitable handlers
+	 */
+	Object handleException(Object object, Method originalMethod,
+			MethodProxy methodProxy, Object[] args, Throwable t)
+			throws Throwable {
+		ExceptionHandlerDispatcher dispatcher = exceptionHandlers.get();
+		List<ModelObjectExceptionHandler> added = getDirectlyAddedHandlers();
+		if (added.size() > 0) {
+			dispatcher = dispatcher.with(added);
+		}
+		return dispatcher.handleException(object, originalMethod, 
+				methodProxy, args, t);
+	}
+
+	private List<ModelObjectExceptionHandler> getDirectlyAddedHandlers() {
+		synchronized (checkedInExceptionHandlers) {
+			if (checkedInExceptionHandlers.isEmpty()) {
+				return Collections.emptyList();
+			}
+			return new ArrayList<>(checkedInExceptionHandlers);
+		}
+	}
+
 	/**
 	 * This method destroys information
 	 * about child objects 
@@ -5,6 +5,7 @@ import java.lang.reflect.Method;
 import net.sf.cglib.proxy.MethodInterceptor;
 import net.sf.cglib.proxy.MethodProxy;
 
+import com.github.arachnidium.util.logging.Photographer;
 import com.github.arachnidium.util.proxy.DefaultInterceptor;
 
 /**
@@ -12,13 +13,21 @@ import com.github.arachnidium.util.proxy.DefaultInterceptor;
  * A default interceptor for any {@link ModelObject}
  * 
  * It invokes methods. If some exception is thrown
- * it attempts to handle it implicitly 
+ * it attempts to handle it implicitly. If the outermost 
+ * invocation of the thread throws the exception then 
+ * screenshots which are kept in memory are stored
+ * 
+ * @see Photographer#saveRecordedPictures()
  * 
  * @see MethodInterceptor
  * 
  * @see DefaultInterceptor
  */
 public abstract class ModelObjectInterceptor	extends DefaultInterceptor {
+	// the count of invocations which are performed by the current thread
+	// now. Exceptions of nested invocations can be handled by outer ones
+	private static final ThreadLocal<int[]> depth = ThreadLocal
+			.withInitial(() -> new int[1]);
 
 	/**
 	 * @see com.github.arachnidium.util.proxy.DefaultInterceptor#intercept(java.lang.Object,
@@ -32,11 +41,22 @@ public abstract class ModelObjectInterceptor	extends DefaultInterceptor {
 	@Override
 	public Object intercept(Object modelObj, Method method, Object[] args,
 			MethodProxy proxy) throws Throwable {
+		int[] invocations = depth.get();
+		invocations[0]++;
 		try {
-			return super.intercept(modelObj, method, args, proxy);
-		} catch (Exception e) {
-			return ((ModelObject<?>) modelObj).exceptionHandler
-					.handleException(modelObj, method, proxy, args, e);
+			try {
+				return super.intercept(modelObj, method, args, proxy);
+			} catch (Exception e) {
+				return ((ModelObject<?>) modelObj).handleException(modelObj, 
+						method, proxy, args, e);
+			}
+		} catch (Throwable unhandled) {
+			if (invocations[0] == 1) {
+				Photographer.saveRecordedPictures();
+			}
+			throw unhandled;
+		} finally {
+			invocations[0]--;
 		}
 	}
 
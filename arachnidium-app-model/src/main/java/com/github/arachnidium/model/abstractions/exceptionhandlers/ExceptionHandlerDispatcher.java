@@ -0,0 +1,259 @@
+package com.github.arachnidium.model.abstractions.exceptionhandlers;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import net.sf.cglib.proxy.MethodProxy;
+
+import com.github.arachnidium.model.abstractions.ModelObject;
+
+/**
+ * This is the immutable ordered set of {@link ModelObjectExceptionHandler}s.
+ * It chooses handlers which are suitable for the caught {@link Throwable} and
+ * invokes them one by one. Suitable handlers are indexed by the class of caught
+ * {@link Throwable}.<br/>
+ * <br/>
+ * Each {@link ModelObject} has its own instances of declared handlers. Only
+ * immutable things are shared by {@link ModelObject}s of the same class:
+ * classes of declared handlers and the index of suitable handlers. Handlers
+ * of the same class are supposed to expect the same exceptions when they
+ * are created.<br/>
+ * <br/>
+ * Methods {@link #with(List)} and {@link #without(List)} return new
+ * instances. So the check-in and the check-out of handlers don't affect
+ * instances that are already in use.<br/>
+ * <br/>
+ * Handlers are compared by identity. Check-ins of each handler are counted.
+ * The handler is removed when it is checked out as many times as it was
+ * checked in. So nested and concurrent invocations of the same method can
+ * share handler instances.
+ */
+public final class ExceptionHandlerDispatcher {
+	private static final ClassValue<Declaration> DECLARED = new ClassValue<Declaration>() {
+		@Override
+		protected Declaration computeValue(Class<?> type) {
+			return new Declaration(UsedImplicitExceptionHandlerReader
+					.getDeclaredExceptionHandlerClasses(type));
+		}
+	};
+	private static final ExceptionHandlerDispatcher EMPTY = new ExceptionHandlerDispatcher(
+			new ModelObjectExceptionHandler[] {});
+
+	private final ModelObjectExceptionHandler[] handlers;
+	// how many times each handler is checked in
+	private final int[] checkIns;
+	// it is shared by dispatchers which have the same handlers
+	private final ConcurrentMap<Class<?>, IndexEntry> index;
+
+	// positions of handlers which are suitable for some class of exceptions
+	private static class IndexEntry {
+		private final int revision;
+		private final int[] positions;
+
+		private IndexEntry(int revision, int[] positions) {
+			this.revision = revision;
+			this.positions = positions;
+		}
+	}
+
+	// handlers which are declared by some class
+	private static class Declaration {
+		private final List<Class<? extends ModelObjectExceptionHandler>> handlerClasses;
+		// it is shared by dispatchers of declared handlers
+		private final ConcurrentMap<Class<?>, IndexEntry> index = new ConcurrentHashMap<>();
+
+		private Declaration(
+				List<Class<? extends ModelObjectExceptionHandler>> handlerClasses) {
+			this.handlerClasses = handlerClasses;
+		}
+	}
+
+	private ExceptionHandlerDispatcher(ModelObjectExceptionHandler[] handlers) {
+		this(handlers, new int[handlers.length], new ConcurrentHashMap<>());
+		Arrays.fill(checkIns, 1);
+	}
+
+	private ExceptionHandlerDispatcher(ModelObjectExceptionHandler[] handlers,
+			int[] checkIns, ConcurrentMap<Class<?>, IndexEntry> index) {
+		this.handlers = handlers;
+		this.checkIns = checkIns;
+		this.index = index;
+	}
+
+	private static int indexOf(List<ModelObjectExceptionHandler> handlers,
+			ModelObjectExceptionHandler handler) {
+		for (int i = 0; i < handlers.size(); i++) {
+			if (handlers.get(i) == handler) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private ExceptionHandlerDispatcher newDispatcher(
+			List<ModelObjectExceptionHandler> newHandlers, List<Integer> newCheckIns) {
+		if (newHandlers.size() == 0) {
+			return EMPTY;
+		}
+		int[] counts = new int[newCheckIns.size()];
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = newCheckIns.get(i);
+		}
+		ModelObjectExceptionHandler[] array = newHandlers
+				.toArray(new ModelObjectExceptionHandler[] {});
+		if (Arrays.equals(array, handlers)) {
+			// only counts are changed. Suitable handlers are the same
+			return new ExceptionHandlerDispatcher(handlers, counts, index);
+		}
+		return new ExceptionHandlerDispatcher(array, counts,
+				new ConcurrentHashMap<>());
+	}
+
+	/**
+	 * @return the dispatcher without handlers
+	 */
+	public static ExceptionHandlerDispatcher empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Returns the dispatcher of new instances of handlers which are declared
+	 * by {@link UsedImplicitExceptionHandlers}. Annotations are read once
+	 * for each class.
+	 *
+	 * @param clazz is a {@link ModelObject} subclass which is supposed to be
+	 * annotated by {@link UsedImplicitExceptionHandlers}
+	 * @return the dispatcher of declared handlers
+	 */
+	public static ExceptionHandlerDispatcher declaredBy(Class<?> clazz) {
+		Declaration declaration = DECLARED.get(clazz);
+		if (declaration.handlerClasses.isEmpty()) {
+			return EMPTY;
+		}
+		ModelObjectExceptionHandler[] handlers = UsedImplicitExceptionHandlerReader
+				.newExceptionHandlers(declaration.handlerClasses)
+				.toArray(new ModelObjectExceptionHandler[] {});
+		int[] checkIns = new int[handlers.length];
+		Arrays.fill(checkIns, 1);
+		return new ExceptionHandlerDispatcher(handlers, checkIns,
+				declaration.index);
+	}
+
+	/**
+	 * @param toBeAdded handlers that should be checked in
+	 * @return a new dispatcher which contains current handlers and given handlers.
+	 * Handlers which are already contained are counted once more.
+	 * The same instance is returned if there is nothing to add.
+	 */
+	public ExceptionHandlerDispatcher with(List<ModelObjectExceptionHandler> toBeAdded) {
+		if (toBeAdded.size() == 0) {
+			return this;
+		}
+		List<ModelObjectExceptionHandler> result = new ArrayList<>(Arrays.asList(handlers));
+		List<Integer> counts = new ArrayList<>();
+		for (int count : checkIns) {
+			counts.add(count);
+		}
+		for (ModelObjectExceptionHandler handler : toBeAdded) {
+			int i = indexOf(result, handler);
+			if (i < 0) {
+				result.add(handler);
+				counts.add(1);
+			} else {
+				counts.set(i, counts.get(i) + 1);
+			}
+		}
+		return newDispatcher(result, counts);
+	}
+
+	/**
+	 * @param toBeRemoved handlers that should be checked out
+	 * @return a new dispatcher which doesn't contain given handlers if they
+	 * are checked out as many times as they were checked in.
+	 * The same instance is returned if there is nothing to remove.
+	 */
+	public ExceptionHandlerDispatcher without(List<ModelObjectExceptionHandler> toBeRemoved) {
+		List<ModelObjectExceptionHandler> result = new ArrayList<>(Arrays.asList(handlers));
+		List<Integer> counts = new ArrayList<>();
+		for (int count : checkIns) {
+			counts.add(count);
+		}
+		boolean isChanged = false;
+		for (ModelObjectExceptionHandler handler : toBeRemoved) {
+			int i = indexOf(result, handler);
+			if (i < 0) {
+				continue;
+			}
+			isChanged = true;
+			if (counts.get(i) > 1) {
+				counts.set(i, counts.get(i) - 1);
+			} else {
+				result.remove(i);
+				counts.remove(i);
+			}
+		}
+		if (!isChanged) {
+			return this;
+		}
+		return newDispatcher(result, counts);
+	}
+
+	private int getRevision() {
+		int revision = 0;
+		for (ModelObjectExceptionHandler handler : handlers) {
+			revision = 31 * revision + handler.revision;
+		}
+		return revision;
+	}
+
+	private int[] getSuitableHandlers(Class<? extends Throwable> tClass) {
+		int revision = getRevision();
+		IndexEntry entry = index.get(tClass);
+		if (entry != null && entry.revision == revision) {
+			return entry.positions;
+		}
+		int[] positions = new int[handlers.length];
+		int count = 0;
+		for (int i = 0; i < handlers.length; i++) {
+			if (handlers[i].isThrowableInList(tClass)) {
+				positions[count++] = i;
+			}
+		}
+		entry = new IndexEntry(revision, Arrays.copyOf(positions, count));
+		index.put(tClass, entry);
+		return entry.positions;
+	}
+
+	/**
+	 * Looks for the suitable handlers and invokes them one by one until some of
+	 * them handles the given {@link Throwable}.
+	 *
+	 * @see ModelObjectExceptionHandler#handleException(Object, Method, MethodProxy, Object[], Throwable)
+	 *
+	 * @throws Throwable the given {@link Throwable} if there is no handler which
+	 * is able to handle it
+	 */
+	public Object handleException(Object object, Method originalMethod,
+			MethodProxy methodProxy, Object[] args, Throwable t)
+			throws Throwable {
+		for (int position : getSuitableHandlers(t.getClass())) {
+			ModelObjectExceptionHandler handler = handlers[position];
+			if (handler.getExpectedMessagePattern() != null
+					&& !handler.doesExceptionMessageMatch(t)) {
+				continue;
+			}
+			try {
+				return handler.handleException(object, originalMethod,
+						methodProxy, args, t);
+			} catch (Throwable e) {
+				continue; // it wasn't the suitable handler
+			}
+		}
+		// if there are no suitable handlers
+		throw t;
+	}
+}
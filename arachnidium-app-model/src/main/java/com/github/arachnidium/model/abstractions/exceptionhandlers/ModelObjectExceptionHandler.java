@@ -1,10 +1,9 @@
 package com.github.arachnidium.model.abstractions.exceptionhandlers;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Matcher;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.regex.Pattern;
 
 import net.sf.cglib.proxy.MethodInterceptor;
@@ -23,8 +22,42 @@ import com.github.arachnidium.util.reflect.annotations.AnnotationUtil;
  */
 public abstract class ModelObjectExceptionHandler implements
 IModelObjectExceptionHandler {
-	private List<Class<? extends Throwable>> throwableList = new ArrayList<Class<? extends Throwable>>();
-	private String expectedMessagePattern;
+	// annotations of handler classes are read and patterns are compiled once
+	private static final ClassValue<Expectation> EXPECTATIONS = new ClassValue<Expectation>() {
+		@Override
+		protected Expectation computeValue(Class<?> type) {
+			ExpectectedThrowables[] expectectedThrowables = AnnotationUtil.
+					getAnnotations(ExpectectedThrowables.class, type, true);
+			if (expectectedThrowables.length == 0) {
+				return null;
+			}
+			return new Expectation(expectectedThrowables[0]);
+		}
+	};
+
+	private static class Expectation {
+		private final List<Class<? extends Throwable>> throwables;
+		private final String messagePattern;
+		private final Pattern compiledMessagePattern;
+
+		private Expectation(ExpectectedThrowables et) {
+			throwables = Arrays.asList(et.expectedThrowables());
+			messagePattern = et.messagePattern();
+			compiledMessagePattern = messagePattern != null ? Pattern
+					.compile(messagePattern) : null;
+		}
+	}
+
+	// handlers which are declared by methods are used by parallel threads
+	private final List<Class<? extends Throwable>> throwableList = new CopyOnWriteArrayList<Class<? extends Throwable>>();
+	private volatile String expectedMessagePattern;
+	private volatile Pattern compiledMessagePattern;
+	/**
+	 * It is changed when the list of exceptions or the message pattern
+	 * is changed. {@link ExceptionHandlerDispatcher} uses it in order to 
+	 * detect that its index is out of date.
+	 */
+	volatile int revision;
 
 	/**
 	 * @param tClass is the class of exception which should be caught and
@@ -36,13 +69,12 @@ IModelObjectExceptionHandler {
 
 	public ModelObjectExceptionHandler() {
 		super();
-		ExpectectedThrowables[] expectectedThrowables = AnnotationUtil.
-				getAnnotations(ExpectectedThrowables.class, 
-				this.getClass(), true);		
-		if (expectectedThrowables.length != 0){
-			ExpectectedThrowables et = expectectedThrowables[0];
-			throwableList.addAll(Arrays.asList(et.expectedThrowables()));
-			expectedMessagePattern = et.messagePattern();
+		Expectation expectation = EXPECTATIONS.get(this.getClass());
+		if (expectation != null){
+			throwableList.addAll(expectation.throwables);
+			expectedMessagePattern = expectation.messagePattern;
+			compiledMessagePattern = expectation.compiledMessagePattern;
+			revision++;
 		}
 	}
 	
@@ -64,6 +96,7 @@ IModelObjectExceptionHandler {
 	@Override
 	public void addThrowableClass(Class<? extends Throwable> tClass){
 		throwableList.add(tClass);
+		revision++;
 	}
 	
 	/**
@@ -74,6 +107,11 @@ IModelObjectExceptionHandler {
 	 */
 	public void setExpectedMessagePattern(String expectedMessagePattern){
 		this.expectedMessagePattern = expectedMessagePattern;
+		if (expectedMessagePattern != null)
+			compiledMessagePattern = Pattern.compile(expectedMessagePattern);
+		else
+			compiledMessagePattern = null;
+		revision++;
 	}
 	
 	/**
@@ -89,12 +127,15 @@ IModelObjectExceptionHandler {
 	 * 
 	 * @param givenThrowable is the {@link Throwable} whose message is supposed to match the given string pattern
 	 * @return <code>true</code> when here is string pattern and {@link Throwable} message text matches to it.  
+	 * A {@link Throwable} without message is considered as one that has an empty message.
 	 */
 	public boolean doesExceptionMessageMatch(Throwable givenThrowable){
-		if (expectedMessagePattern == null)
+		Pattern p = compiledMessagePattern;
+		if (p == null)
 			return false;
-		Pattern p = Pattern.compile(expectedMessagePattern);
-		Matcher m = p.matcher(givenThrowable.getMessage());
-		return m.find();
+		String message = givenThrowable.getMessage();
+		if (message == null)
+			message = "";
+		return p.matcher(message).find();
 	}
 }
@@ -3,6 +3,7 @@ package com.github.arachnidium.model.abstractions.exceptionhandlers;
 import java.lang.reflect.AnnotatedElement;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import com.github.arachnidium.util.reflect.annotations.AnnotationUtil;
@@ -18,7 +19,16 @@ public final class UsedImplicitExceptionHandlerReader {
 	}
 	
 	public static List<ModelObjectExceptionHandler> getDeclaredExceptionHandlers(AnnotatedElement annotated){
-		
+		return newExceptionHandlers(getDeclaredExceptionHandlerClasses(annotated));
+	}
+
+	/**
+	 * @param annotated is a class or a method which is supposed to be
+	 * annotated by {@link UsedImplicitExceptionHandlers}
+	 * @return classes of declared handlers. Handlers are not instantiated
+	 */
+	public static List<Class<? extends ModelObjectExceptionHandler>> getDeclaredExceptionHandlerClasses(
+			AnnotatedElement annotated){
 		UsedImplicitExceptionHandlers[] annotations = null;		
 		if (!Class.class.isAssignableFrom(annotated.getClass())){
 			annotations = AnnotationUtil.getAnnotations(
@@ -28,20 +38,26 @@ public final class UsedImplicitExceptionHandlerReader {
 					UsedImplicitExceptionHandlers.class, (Class<?>) annotated, true);
 		}		
 		
+		if (annotations.length == 0) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(Arrays.asList(annotations[0].areUsed()));
+	}
+
+	/**
+	 * @param handlerClasses are classes of handlers
+	 * @return new instances of given classes
+	 */
+	public static List<ModelObjectExceptionHandler> newExceptionHandlers(
+			List<Class<? extends ModelObjectExceptionHandler>> handlerClasses){
 		List<ModelObjectExceptionHandler> result = new ArrayList<>();
-		if (annotations.length != 0) {
-			UsedImplicitExceptionHandlers ueh = annotations[0];
-			List<Class<? extends ModelObjectExceptionHandler>> throwableHandlers = Arrays
-					.asList(ueh.areUsed());
-			throwableHandlers.forEach((handler) -> {
-				try {
-					result.add(handler.newInstance());
-				} catch (Exception e) {
-					throw new RuntimeException(e);
-				}
-			});			
-		 }
-		
+		handlerClasses.forEach((handler) -> {
+			try {
+				result.add(handler.newInstance());
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		});
 		return result;
 	}
 }
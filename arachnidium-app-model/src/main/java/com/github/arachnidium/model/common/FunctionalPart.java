@@ -16,13 +16,17 @@ import com.github.arachnidium.util.logging.Log;
 import com.github.arachnidium.util.logging.eLogColors;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.pagefactory.ByChained;
 import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
 import org.openqa.selenium.support.pagefactory.FieldDecorator;
+import org.openqa.selenium.support.ui.FluentWait;
 
 import com.github.arachnidium.core.BrowserWindow;
 import com.github.arachnidium.core.Handle;
@@ -40,6 +44,7 @@ import com.github.arachnidium.core.interfaces.ITakesPictureOfItSelf;
 import com.github.arachnidium.model.abstractions.ModelObject;
 import com.github.arachnidium.model.interfaces.IDecomposable;
 import com.github.arachnidium.model.support.HowToGetByFrames;
+import com.google.common.base.Function;
 
 /**
  * This class is for description of browser or mobile UI or the fragment of this
@@ -96,6 +101,7 @@ public abstract class FunctionalPart<S extends Handle> extends ModelObject<S>
 	protected final ScriptExecutor scriptExecutor; // executes given javaScript
 
 	final RootElement rootElement;
+	private static final long ABSENCE_POLLING = 100; // MILLISECONDS
 	private static By getChainedBy(FunctionalPart<?> parent,
 			HowToGetByFrames path, By by) {
 		// root element chain is broken when we switch
@@ -550,6 +556,81 @@ public abstract class FunctionalPart<S extends Handle> extends ModelObject<S>
 		return timeOut;
 	}
 
+	// it is invoked when the implicitly wait is turned off
+	private Boolean isAnyPresentNow(By[] bys) {
+		WebDriver driver = getWrappedDriver();
+		WebElement root = null;
+		By rootBy = rootElement.getTheGivenByStrategy();
+		if (rootBy != null) {
+			try {
+				root = driver.findElement(rootBy);
+			} catch (NoSuchElementException e) {
+				// nothing can be present without the root element
+				return false;
+			}
+		}
+		Boolean result = PresenceScript.isAnyPresent(scriptExecutor, root,
+				bys);
+		if (result != null) {
+			return result;
+		}
+		SearchContext context = root;
+		if (context == null) {
+			context = driver;
+		}
+		for (By by : bys) {
+			if (context.findElements(by).size() > 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks that nothing can be found by the given {@link By} strategies. The
+	 * check is performed once and the implicitly wait is turned off for it.
+	 * When it is possible the check is performed by the single script.
+	 *
+	 * @param bys
+	 *            are strategies of the searching for elements
+	 * @return <code>true</code> if no element is present
+	 */
+	@InteractiveMethod
+	public boolean isAbsent(By... bys) {
+		return !getTimeOut().withImplicitWait(0, TimeUnit.SECONDS,
+				() -> isAnyPresentNow(bys));
+	}
+
+	/**
+	 * Checks that nothing appears during the given time. Presence is checked
+	 * every {@value #ABSENCE_POLLING} milliseconds without the implicitly
+	 * wait. It returns as soon as some element is found.
+	 *
+	 * @param timeOut
+	 *            is the time during which elements should be absent
+	 * @param timeUnit
+	 *            is the {@link TimeUnit} of the time
+	 * @param bys
+	 *            are strategies of the searching for elements
+	 * @return <code>true</code> if elements are still absent after the given
+	 *         time
+	 */
+	@InteractiveMethod
+	public boolean isStillAbsent(long timeOut, TimeUnit timeUnit, By... bys) {
+		return getTimeOut().withImplicitWait(0, TimeUnit.SECONDS, () -> {
+			FluentWait<By[]> wait = new FluentWait<By[]>(bys);
+			wait.withTimeout(timeOut, timeUnit);
+			wait.pollingEvery(ABSENCE_POLLING, TimeUnit.MILLISECONDS);
+			wait.ignoring(StaleElementReferenceException.class);
+			try {
+				wait.until((Function<By[], Boolean>) this::isAnyPresentNow);
+				return false;
+			} catch (TimeoutException e) {
+				return true;
+			}
+		});
+	}
+
 	/**
 	 * This method returns another UI description (child). It is assumed that
 	 * current UI is more generalized and the child is more specific. <br/>
@@ -1,17 +1,13 @@
 package com.github.arachnidium.model.common;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
 import net.sf.cglib.proxy.MethodProxy;
 
 import com.github.arachnidium.core.settings.supported.ESupportedDrivers;
 import com.github.arachnidium.model.abstractions.ModelObjectInterceptor;
 import com.github.arachnidium.model.abstractions.exceptionhandlers.ModelObjectExceptionHandler;
-import com.github.arachnidium.model.abstractions.exceptionhandlers.UsedImplicitExceptionHandlerReader;
-import com.github.arachnidium.model.common.FunctionalPart.InteractiveMethod;
-import com.github.arachnidium.model.common.FunctionalPart.WithImplicitlyWait;
 import com.github.arachnidium.model.interfaces.IDecomposable;
 import com.github.arachnidium.model.support.annotations.Frame;
 import com.github.arachnidium.util.reflect.executable.ExecutableUtil;
@@ -29,72 +25,87 @@ import com.github.arachnidium.util.reflect.executable.ExecutableUtil;
  * {@link Frame} annotations describe the default frame path to desired
  * 
  * UI. It is actual for browser and hybrid mobile apps.
+ * 
+ * Annotations of intercepted methods are read once. See {@link InterceptionPlan}
  */
 class InteractiveInterceptor extends ModelObjectInterceptor {
 	
-	private static void resetTimeOut(FunctionalPart<?> funcPart,
-			long timeOutValue, TimeUnit timeUnit) {
-		funcPart.getTimeOut().implicitlyWait(timeOutValue, timeUnit);
+	// the decorator uses the implicitly wait time out which is in effect now
+	private static void resetDecorator(FunctionalPart<?> funcPart) {
 		if (funcPart.defaultFieldDecorator != null)
-			funcPart.defaultFieldDecorator.resetImplicitlyWaitTimeOut(timeOutValue,
-					timeUnit);
+			funcPart.defaultFieldDecorator.resetImplicitlyWaitTimeOut(
+					funcPart.getTimeOut().getImplicitlyWaitTimeOut(),
+					funcPart.getTimeOut().getImplicitlyWaitTimeUnit());
+	}
+
+	private Object invoke(FunctionalPart<?> funcPart, InterceptionPlan plan,
+			Method method, Object[] args, MethodProxy methodProxy)
+			throws Throwable {
+		if (plan.isGetPart) {
+			Class<?> target = DecompositionUtil.extractTargetFromGetPart(method, args);
+			ESupportedDrivers supportedDriver = 
+					funcPart.getWebDriverEncapsulation().getInstantiatedSupportedDriver();
+			Object[] newArgs = DecompositionUtil.
+					getRelevantArgs(supportedDriver, method, args, target);
+			args = newArgs;
+			method = ExecutableUtil.getRelevantMethod(
+					funcPart.getClass(), DecompositionUtil.GET_PART, args);
+			methodProxy = plan.getTargetProxy(funcPart.getClass(), method);
+		}
+		return super.intercept(funcPart, method, args, methodProxy);
+	}
+
+	// the customized time out is applied temporarily. Nested calls restore
+	// time outs of outer calls
+	private Object invokeWithCustomTimeOut(FunctionalPart<?> funcPart,
+			InterceptionPlan plan, Method method, Object[] args,
+			MethodProxy methodProxy) throws Throwable {
+		Throwable[] thrown = new Throwable[1];
+		Object result = funcPart.getTimeOut().withImplicitWait(
+				plan.customTimeOut, plan.customTimeUnit, () -> {
+					resetDecorator(funcPart);
+					try {
+						return invoke(funcPart, plan, method, args, methodProxy);
+					} catch (Throwable t) {
+						// it is thrown as it is
+						thrown[0] = t;
+						return null;
+					}
+				});
+		if (thrown[0] != null) {
+			throw thrown[0];
+		}
+		return result;
 	}
 
 	@Override
-	public synchronized Object intercept(Object object, Method method,
+	public Object intercept(Object object, Method method,
 			Object[] args, MethodProxy methodProxy) throws Throwable {
 
 		FunctionalPart<?> funcPart = (FunctionalPart<?>) object;
-		long timeOut = 0;
-		TimeUnit timeUnit = null;
-		ArrayList<ModelObjectExceptionHandler> handlers = new ArrayList<>();
+		InterceptionPlan plan = InterceptionPlan.get(method);
+		List<ModelObjectExceptionHandler> handlers = plan.exceptionHandlers;
 		
-		boolean timeOutIsChanged = false;		
-		if (method.isAnnotationPresent(InteractiveMethod.class)) {
+		if (plan.isInteractive) {
+			// reloaded settings are applied by the thread of the session
+			funcPart.getTimeOut().applyPendingConfiguration();
 			funcPart.switchToMe();
+			resetDecorator(funcPart);
 			
-			timeOut = funcPart.getTimeOut().getImplicitlyWaitTimeOut();
-			timeUnit = funcPart.getTimeOut().getImplicitlyWaitTimeUnit();
-			
-			if (funcPart.defaultFieldDecorator != null)
-				funcPart.defaultFieldDecorator.resetImplicitlyWaitTimeOut(timeOut,
-						timeUnit);
-			
-			// if there is customized time out
-			if (method.isAnnotationPresent(WithImplicitlyWait.class)) {				
-				WithImplicitlyWait withImplicitlyWait = method
-						.getAnnotation(WithImplicitlyWait.class);
-				long customTimeOut = withImplicitlyWait.timeOut();
-				TimeUnit customTimeUnit = withImplicitlyWait.timeUnit();
-				resetTimeOut(funcPart, customTimeOut, customTimeUnit);
-				timeOutIsChanged = true;
-			}
-			
-			handlers.addAll(UsedImplicitExceptionHandlerReader.getDeclaredExceptionHandlers(method));
 			if (handlers.size() > 0){
 				funcPart.checkInExceptionHandlers(handlers);
 			}
 		}
 
 		try {
-			if (method.getName().equals(DecompositionUtil.GET_PART)) {
-				Class<?> target = DecompositionUtil.extractTargetFromGetPart(method, args);
-				ESupportedDrivers supportedDriver = 
-						funcPart.getWebDriverEncapsulation().getInstantiatedSupportedDriver();
-				Object[] newArgs = DecompositionUtil.
-						getRelevantArgs(supportedDriver, method, args, target);
-				args = newArgs;
-				method = ExecutableUtil.getRelevantMethod(
-						funcPart.getClass(), DecompositionUtil.GET_PART, args);
-				methodProxy = DecompositionUtil.getMethodProxy(
-						funcPart.getClass(), method);
+			if (plan.hasCustomTimeOut) {
+				return invokeWithCustomTimeOut(funcPart, plan, method, args,
+						methodProxy);
 			}
-			return super.intercept(funcPart, method, args, methodProxy);
-		} catch (Exception e) {
-			throw e;
+			return invoke(funcPart, plan, method, args, methodProxy);
 		} finally {
-			if (timeOutIsChanged)
-				resetTimeOut(funcPart, timeOut, timeUnit);			
+			if (plan.hasCustomTimeOut)
+				resetDecorator(funcPart);
 			if (handlers.size() > 0){
 				funcPart.checkOutExceptionHandlers(handlers);
 			}
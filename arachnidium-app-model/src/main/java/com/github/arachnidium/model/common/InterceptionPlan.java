@@ -0,0 +1,124 @@
+package com.github.arachnidium.model.common;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.cglib.proxy.MethodProxy;
+
+import org.openqa.selenium.By;
+
+import com.github.arachnidium.core.fluenthandle.IHowToGetHandle;
+import com.github.arachnidium.model.abstractions.exceptionhandlers.ModelObjectExceptionHandler;
+import com.github.arachnidium.model.abstractions.exceptionhandlers.UsedImplicitExceptionHandlerReader;
+import com.github.arachnidium.model.common.FunctionalPart.InteractiveMethod;
+import com.github.arachnidium.model.common.FunctionalPart.WithImplicitlyWait;
+import com.github.arachnidium.model.interfaces.IDecomposable;
+import com.github.arachnidium.model.support.HowToGetByFrames;
+
+/**
+ * This is the description of the interception of some {@link Method}.
+ * It is computed once per {@link Method} and then it is shared by
+ * {@link InteractiveInterceptor} and {@link ApplicationInterceptor} instances.
+ * So annotations are not read and {@link ModelObjectExceptionHandler}s are not
+ * instantiated each time when the method is invoked. Plans are kept by the
+ * declaring class of the method. So they don't hold class loaders which are
+ * not used anymore.
+ */
+final class InterceptionPlan {
+	private static final ClassValue<ConcurrentMap<Method, InterceptionPlan>> PLANS =
+			new ClassValue<ConcurrentMap<Method, InterceptionPlan>>() {
+				@Override
+				protected ConcurrentMap<Method, InterceptionPlan> computeValue(
+						Class<?> type) {
+					return new ConcurrentHashMap<>();
+				}
+			};
+
+	final boolean isInteractive;
+	final boolean hasCustomTimeOut;
+	final long customTimeOut;
+	final TimeUnit customTimeUnit;
+	/**
+	 * These handlers are declared by the annotation which marks the method.
+	 * Instances are shared by all invocations.
+	 */
+	final List<ModelObjectExceptionHandler> exceptionHandlers;
+	/**
+	 * It is <code>true</code> if the method is one of {@link IDecomposable#getPart(*)}'s
+	 */
+	final boolean isGetPart;
+	/**
+	 * It is <code>false</code> if all parameters of the getPart method
+	 * are defined explicitly and there is nothing to substitute
+	 */
+	final boolean requiresArgSubstitution;
+
+	// substituted getPart methods are resolved by proxy classes
+	private final ConcurrentMap<Class<?>, ConcurrentMap<Method, MethodProxy>> targetProxies =
+			new ConcurrentHashMap<>();
+
+	private InterceptionPlan(Method method) {
+		isInteractive = method.isAnnotationPresent(InteractiveMethod.class);
+		WithImplicitlyWait withImplicitlyWait = method
+				.getAnnotation(WithImplicitlyWait.class);
+		hasCustomTimeOut = isInteractive && withImplicitlyWait != null;
+		if (hasCustomTimeOut) {
+			customTimeOut = withImplicitlyWait.timeOut();
+			customTimeUnit = withImplicitlyWait.timeUnit();
+		} else {
+			customTimeOut = 0;
+			customTimeUnit = null;
+		}
+
+		if (isInteractive) {
+			exceptionHandlers = Collections.unmodifiableList(
+					UsedImplicitExceptionHandlerReader.getDeclaredExceptionHandlers(method));
+		} else {
+			exceptionHandlers = Collections.emptyList();
+		}
+
+		isGetPart = method.getName().equals(DecompositionUtil.GET_PART);
+		List<Class<?>> paramClasses = Arrays.asList(method.getParameterTypes());
+		requiresArgSubstitution = isGetPart && (!paramClasses.contains(IHowToGetHandle.class)
+				|| !paramClasses.contains(HowToGetByFrames.class)
+				|| !paramClasses.contains(long.class) || !paramClasses.contains(By.class));
+	}
+
+	/**
+	 * @param method is the intercepted method
+	 * @return the plan of the given method interception
+	 */
+	static InterceptionPlan get(Method method) {
+		ConcurrentMap<Method, InterceptionPlan> plans = PLANS.get(method
+				.getDeclaringClass());
+		InterceptionPlan plan = plans.get(method);
+		if (plan == null) {
+			plan = plans.computeIfAbsent(method, InterceptionPlan::new);
+		}
+		return plan;
+	}
+
+	/**
+	 * @param clazz is the class of the proxy object
+	 * @param target is the getPart method which is resolved by new arguments
+	 * @return the {@link MethodProxy} of the target method.
+	 */
+	MethodProxy getTargetProxy(Class<?> clazz, Method target) {
+		ConcurrentMap<Method, MethodProxy> proxies = targetProxies.get(clazz);
+		if (proxies == null) {
+			proxies = targetProxies.computeIfAbsent(clazz,
+					c -> new ConcurrentHashMap<>());
+		}
+		MethodProxy result = proxies.get(target);
+		if (result == null) {
+			result = proxies.computeIfAbsent(target,
+					m -> DecompositionUtil.getMethodProxy(clazz, m));
+		}
+		return result;
+	}
+}
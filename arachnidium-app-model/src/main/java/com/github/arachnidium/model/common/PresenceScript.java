@@ -0,0 +1,159 @@
+package com.github.arachnidium.model.common;
+
+import java.util.ArrayList;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsElement;
+
+/**
+ * Checks the presence of elements by the single script. Only
+ * {@link By#id(String)}, {@link By#name(String)},
+ * {@link By#className(String)}, {@link By#tagName(String)},
+ * {@link By#cssSelector(String)} and {@link By#xpath(String)} are converted
+ * to the script. Other strategies should be checked by the usual searching.
+ */
+class PresenceScript {
+	private static final String CSS = "css";
+	private static final String XPATH = "xpath";
+	// returns true if something is found by any of the given locators.
+	// 9 is XPathResult.FIRST_ORDERED_NODE_TYPE
+	private static final String SCRIPT = "var root = arguments[0] || document;"
+			+ "var doc = root.ownerDocument || root;"
+			+ "var locators = arguments[1];"
+			+ "for (var i = 0; i < locators.length; i++) {"
+			+ "var how = locators[i][0], using = locators[i][1];"
+			+ "if (how == '" + CSS + "') {"
+			+ "if (root.querySelector(using)) return true;"
+			+ "} else if (doc.evaluate(using, root, null, 9, null).singleNodeValue) {"
+			+ "return true;" + "}" + "}" + "return false;";
+
+	// fields which keep values of supported strategies. By doesn't
+	// provide them otherwise
+	private static final Map<Class<?>, Field> VALUE_FIELDS = new HashMap<>();
+	static {
+		addValueField(By.ById.class, "id");
+		addValueField(By.ByName.class, "name");
+		addValueField(By.ByClassName.class, "className");
+		addValueField(By.ByTagName.class, "name");
+		addValueField(By.ByXPath.class, "xpathExpression");
+		addValueField(By.ByCssSelector.class, "selector");
+	}
+
+	private PresenceScript() {
+		super();
+	}
+
+	private static void addValueField(Class<? extends By> byClass,
+			String fieldName) {
+		try {
+			Field field = byClass.getDeclaredField(fieldName);
+			field.setAccessible(true);
+			VALUE_FIELDS.put(byClass, field);
+		} catch (NoSuchFieldException | RuntimeException e) {
+			// the value will be taken from By.toString()
+		}
+	}
+
+	// the value of the strategy. If it can't be read then it is taken
+	// from By.toString() where it follows the prefix
+	private static String getUsing(By by) {
+		for (Class<?> byClass = by.getClass(); byClass != null; byClass = byClass
+				.getSuperclass()) {
+			Field field = VALUE_FIELDS.get(byClass);
+			if (field == null) {
+				continue;
+			}
+			try {
+				return (String) field.get(by);
+			} catch (IllegalAccessException | RuntimeException e) {
+				break;
+			}
+		}
+		String description = by.toString();
+		return description.substring(description.indexOf(": ") + 2);
+	}
+
+	static String toXPathLiteral(String value) {
+		if (!value.contains("'")) {
+			return "'" + value + "'";
+		}
+		if (!value.contains("\"")) {
+			return "\"" + value + "\"";
+		}
+		return "concat('" + value.replace("'", "', \"'\", '") + "')";
+	}
+
+	// returns the pair of the strategy and the value or null
+	// if the given By can't be converted
+	static List<String> toLocator(By by) {
+		if (by instanceof By.ByCssSelector) {
+			return Arrays.asList(CSS, getUsing(by));
+		}
+		if (by instanceof By.ByTagName) {
+			return Arrays.asList(CSS, getUsing(by));
+		}
+		if (by instanceof By.ByXPath) {
+			return Arrays.asList(XPATH, getUsing(by));
+		}
+		if (by instanceof By.ById) {
+			return Arrays.asList(XPATH, ".//*[@id="
+					+ toXPathLiteral(getUsing(by)) + "]");
+		}
+		if (by instanceof By.ByName) {
+			return Arrays.asList(XPATH, ".//*[@name="
+					+ toXPathLiteral(getUsing(by)) + "]");
+		}
+		if (by instanceof By.ByClassName) {
+			return Arrays.asList(XPATH,
+					".//*[contains(concat(' ', normalize-space(@class), ' '), "
+							+ toXPathLiteral(" " + getUsing(by) + " ") + ")]");
+		}
+		return null;
+	}
+
+	/**
+	 * @param scriptExecutor
+	 *            executes the script
+	 * @param root
+	 *            is the element which contains desired elements. If it is
+	 *            <code>null</code> then the whole document is checked
+	 * @param bys
+	 *            are the given strategies
+	 * @return <code>true</code> if something is found, <code>false</code> if
+	 *         nothing is found. <code>null</code> is returned when some of
+	 *         given strategies can't be converted or scripts can't be executed
+	 *         in the current context (e.g. native mobile apps)
+	 */
+	static Boolean isAnyPresent(JavascriptExecutor scriptExecutor,
+			WebElement root, By[] bys) {
+		List<List<String>> locators = new ArrayList<>();
+		for (By by : bys) {
+			List<String> locator = toLocator(by);
+			if (locator == null) {
+				return null;
+			}
+			locators.add(locator);
+		}
+		while (root instanceof WrapsElement) {
+			root = ((WrapsElement) root).getWrappedElement();
+		}
+		try {
+			Object result = scriptExecutor.executeScript(SCRIPT, root,
+					locators);
+			if (result instanceof Boolean) {
+				return (Boolean) result;
+			}
+			return null;
+		} catch (WebDriverException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package com.github.arachnidium.model.support;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ByAll;
+
+import com.github.arachnidium.core.settings.supported.ESupportedDrivers;
+
+/**
+ * This is the {@link ByAll} which stops searching for the single element when
+ * something is found. Alternatives are tried in the declared order. So the
+ * found element is the same as the element which is found by {@link ByAll}.
+ * Alternatives which are declared after the matching one are not tried.<br/>
+ * <br/>
+ * It remembers which alternative has found the element. When the
+ * {@value #ADAPTIVE_PROPERTY} system property is <code>true</code>
+ * alternatives which have found elements more often are tried at first.
+ * Alternatives which have found elements equally are tried in the declared
+ * order. <b>It changes the found element</b> when several alternatives match
+ * different elements: the declared order is not a priority anymore. So it
+ * should be turned on only when alternatives describe the same element on
+ * different platforms or versions of the UI.<br/>
+ * <br/>
+ * Statistics are kept per page object class/field and platform. They can be
+ * saved between runs. The file is defined by the
+ * "arachnidium.locators.statistics" system property.<br/>
+ * <br/>
+ * The list of elements is searched as it is done by {@link ByAll}
+ */
+public class ByAdaptiveAll extends ByAll {
+	private static final long serialVersionUID = 1L;
+	public static final String ADAPTIVE_PROPERTY = "arachnidium.locators.adaptive";
+	private final By[] bys;
+	// keys of statistics of each alternative
+	private final String[] keys;
+	private final boolean isReordered = Boolean.getBoolean(ADAPTIVE_PROPERTY);
+
+	private static String getTargetName(AnnotatedElement target) {
+		if (target instanceof Class<?>) {
+			return ((Class<?>) target).getName();
+		}
+		if (target instanceof Field) {
+			Field field = (Field) target;
+			return field.getDeclaringClass().getName() + "." + field.getName();
+		}
+		return String.valueOf(target);
+	}
+
+	/**
+	 * @param target
+	 *            is the page object class or field which is marked by given
+	 *            locators
+	 * @param supportedDriver
+	 *            is the current platform
+	 * @param bys
+	 *            are alternative locators
+	 */
+	public ByAdaptiveAll(AnnotatedElement target,
+			ESupportedDrivers supportedDriver, By... bys) {
+		super(bys);
+		this.bys = bys;
+		keys = new String[bys.length];
+		String prefix = getTargetName(target) + "@" + supportedDriver.name()
+				+ ": ";
+		for (int i = 0; i < bys.length; i++) {
+			keys[i] = prefix + bys[i].toString();
+		}
+	}
+
+	// indexes of alternatives. The most successful alternative is the first
+	// if alternatives are reordered
+	private Integer[] getOrder() {
+		Integer[] order = new Integer[bys.length];
+		for (int i = 0; i < bys.length; i++) {
+			order[i] = i;
+		}
+		if (!isReordered) {
+			return order;
+		}
+		long[] hits = new long[bys.length];
+		for (int i = 0; i < bys.length; i++) {
+			hits[i] = LocatorStatistics.getHits(keys[i]);
+		}
+		// the sorting is stable. So the declared order is kept for equal hits
+		Arrays.sort(order, (i1, i2) -> Long.compare(hits[i2], hits[i1]));
+		return order;
+	}
+
+	@Override
+	public WebElement findElement(SearchContext context) {
+		for (int i : getOrder()) {
+			List<WebElement> found = bys[i].findElements(context);
+			if (found.size() > 0) {
+				LocatorStatistics.hit(keys[i]);
+				return found.get(0);
+			}
+		}
+		throw new NoSuchElementException("Cannot locate an element using "
+				+ toString());
+	}
+}
@@ -0,0 +1,90 @@
+package com.github.arachnidium.model.support;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts elements which were found by alternatives of {@link ByAdaptiveAll}.
+ * Counters are kept during the run. They are saved between runs when the
+ * {@value #FILE_PROPERTY} system property defines the file. This file is read
+ * once and it is rewritten when the JVM is shut down.
+ */
+final class LocatorStatistics {
+	static final String FILE_PROPERTY = "arachnidium.locators.statistics";
+
+	private static final ConcurrentMap<String, AtomicLong> hits = new ConcurrentHashMap<>();
+
+	static {
+		String path = System.getProperty(FILE_PROPERTY);
+		if (path != null && !"".equals(path)) {
+			File file = new File(path);
+			read(file);
+			Runtime.getRuntime().addShutdownHook(
+					new Thread(() -> write(file), "arachnidium-locator-statistics"));
+		}
+	}
+
+	private LocatorStatistics() {
+		super();
+	}
+
+	private static void read(File file) {
+		if (!file.isFile()) {
+			return;
+		}
+		Properties saved = new Properties();
+		try (InputStream input = new FileInputStream(file)) {
+			saved.load(input);
+		} catch (IOException | IllegalArgumentException e) {
+			// broken statistics are ignored. They will be rewritten
+			return;
+		}
+		for (String key : saved.stringPropertyNames()) {
+			try {
+				hits.put(key, new AtomicLong(Long.parseLong(saved
+						.getProperty(key))));
+			} catch (NumberFormatException e) {
+				// this value is ignored
+			}
+		}
+	}
+
+	private static void write(File file) {
+		Properties toBeSaved = new Properties();
+		hits.forEach((key, value) -> toBeSaved.setProperty(key,
+				String.valueOf(value.get())));
+		try {
+			File temp = File.createTempFile(file.getName(), null, file
+					.getAbsoluteFile().getParentFile());
+			try (OutputStream output = new FileOutputStream(temp)) {
+				toBeSaved.store(output, "Elements found by alternative locators");
+			}
+			Files.move(temp.toPath(), file.toPath(),
+					StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException | RuntimeException e) {
+			// statistics are optional
+		}
+	}
+
+	static long getHits(String key) {
+		AtomicLong value = hits.get(key);
+		if (value == null) {
+			return 0;
+		}
+		return value.get();
+	}
+
+	static void hit(String key) {
+		hits.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+	}
+}
@@ -8,10 +8,10 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.support.ByIdOrName;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.How;
-import org.openqa.selenium.support.pagefactory.ByAll;
 import org.openqa.selenium.support.pagefactory.ByChained;
 
 import com.github.arachnidium.core.settings.supported.ESupportedDrivers;
+import com.github.arachnidium.model.support.ByAdaptiveAll;
 import com.github.arachnidium.model.support.ByNumbered;
 
 public class CommonRootElementReader implements IRootElementReader {
@@ -103,7 +103,8 @@ public class CommonRootElementReader implements IRootElementReader {
 		}	
 		if (result.size() == 0)
 			return null;
-		return new ByAll(result.toArray(new By[]{}));
+		return new ByAdaptiveAll(annotatedTarget, supportedDriver,
+				result.toArray(new By[]{}));
 	}
 
 }
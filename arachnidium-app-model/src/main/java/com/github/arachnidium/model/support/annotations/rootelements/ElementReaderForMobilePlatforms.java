@@ -9,10 +9,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.openqa.selenium.By;
-import org.openqa.selenium.support.pagefactory.ByAll;
 import org.openqa.selenium.support.pagefactory.ByChained;
 
 import com.github.arachnidium.core.settings.supported.ESupportedDrivers;
+import com.github.arachnidium.model.support.ByAdaptiveAll;
 import com.github.arachnidium.model.support.ByNumbered;
 import com.github.arachnidium.model.support.annotations.ClassDeclarationReader;
 
@@ -111,7 +111,8 @@ public class ElementReaderForMobilePlatforms implements IRootElementReader {
 		//by present @FindBy annotations
 		if (result.size() == 0)
 			return new CommonRootElementReader().readClassAndGetBy(annotatedTarget, supportedDriver);
-		return new ByAll(result.toArray(new By[]{}));
+		return new ByAdaptiveAll(annotatedTarget, supportedDriver,
+				result.toArray(new By[]{}));
 	}
 
 }
@@ -0,0 +1,50 @@
+package com.github.arachnidium.model.common;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.openqa.selenium.By;
+import org.testng.annotations.Test;
+
+public class PresenceScriptTest {
+
+	@Test
+	public void xPathLiteralTest() {
+		Assert.assertEquals("'value'", PresenceScript.toXPathLiteral("value"));
+		Assert.assertEquals("\"it's\"", PresenceScript.toXPathLiteral("it's"));
+		Assert.assertEquals("concat('a', \"'\", 'b\"c')",
+				PresenceScript.toXPathLiteral("a'b\"c"));
+		Assert.assertEquals("concat('', \"'\", '\"', \"'\", '')",
+				PresenceScript.toXPathLiteral("'\"'"));
+	}
+
+	@Test
+	public void cssLocatorTest() {
+		Assert.assertEquals(Arrays.asList("css", "div > a"),
+				PresenceScript.toLocator(By.cssSelector("div > a")));
+		Assert.assertEquals(Arrays.asList("css", "input"),
+				PresenceScript.toLocator(By.tagName("input")));
+	}
+
+	@Test
+	public void xPathLocatorTest() {
+		// the value contains the separator of By.toString()
+		Assert.assertEquals(Arrays.asList("xpath", "//a[text()='a: b']"),
+				PresenceScript.toLocator(By.xpath("//a[text()='a: b']")));
+		Assert.assertEquals(Arrays.asList("xpath", ".//*[@id='login']"),
+				PresenceScript.toLocator(By.id("login")));
+		Assert.assertEquals(
+				Arrays.asList("xpath", ".//*[@name=concat('a', \"'\", 'b\"')]"),
+				PresenceScript.toLocator(By.name("a'b\"")));
+		Assert.assertEquals(Arrays.asList("xpath",
+				".//*[contains(concat(' ', normalize-space(@class), ' '), ' button ')]"),
+				PresenceScript.toLocator(By.className("button")));
+	}
+
+	@Test
+	public void unsupportedLocatorTest() {
+		Assert.assertNull(PresenceScript.toLocator(By.linkText("Sign in")));
+		Assert.assertNull(PresenceScript.toLocator(By
+				.partialLinkText("Sign")));
+	}
+}
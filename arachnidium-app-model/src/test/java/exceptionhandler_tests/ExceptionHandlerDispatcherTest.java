@@ -0,0 +1,98 @@
+package exceptionhandler_tests;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+
+import net.sf.cglib.proxy.MethodProxy;
+
+import org.junit.Assert;
+import org.testng.annotations.Test;
+
+import com.github.arachnidium.model.abstractions.exceptionhandlers.ExceptionHandlerDispatcher;
+import com.github.arachnidium.model.abstractions.exceptionhandlers.ExpectectedThrowables;
+import com.github.arachnidium.model.abstractions.exceptionhandlers.ModelObjectExceptionHandler;
+import com.github.arachnidium.model.abstractions.exceptionhandlers.UsedImplicitExceptionHandlers;
+
+public class ExceptionHandlerDispatcherTest {
+
+	private static final String HANDLED = "handled";
+
+	@ExpectectedThrowables(expectedThrowables = IllegalStateException.class)
+	public static class SelfReturningHandler extends
+			ModelObjectExceptionHandler {
+		@Override
+		public Object handleException(Object object, Method originalMethod,
+				MethodProxy methodProxy, Object[] args, Throwable t)
+				throws Throwable {
+			return this;
+		}
+	}
+
+	@UsedImplicitExceptionHandlers(areUsed = SelfReturningHandler.class)
+	private static class Declaring {
+	}
+
+	private static List<ModelObjectExceptionHandler> handler() {
+		return Collections
+				.singletonList(new ModelObjectExceptionHandler(
+						IllegalStateException.class) {
+					@Override
+					public Object handleException(Object object,
+							Method originalMethod, MethodProxy methodProxy,
+							Object[] args, Throwable t) throws Throwable {
+						return HANDLED;
+					}
+				});
+	}
+
+	private static Object handle(ExceptionHandlerDispatcher dispatcher)
+			throws Throwable {
+		return dispatcher.handleException(null, null, null, null,
+				new IllegalStateException());
+	}
+
+	// the same handler instance is checked in by nested invocations
+	@Test
+	public void nestedCheckInTest() throws Throwable {
+		List<ModelObjectExceptionHandler> handlers = handler();
+		ExceptionHandlerDispatcher outer = ExceptionHandlerDispatcher.empty()
+				.with(handlers);
+		ExceptionHandlerDispatcher inner = outer.with(handlers);
+		Assert.assertEquals(HANDLED, handle(inner));
+
+		// the inner invocation is finished
+		ExceptionHandlerDispatcher afterInner = inner.without(handlers);
+		Assert.assertEquals(HANDLED, handle(afterInner));
+
+		// the outer invocation is finished
+		Assert.assertSame(ExceptionHandlerDispatcher.empty(),
+				afterInner.without(handlers));
+	}
+
+	@Test(expectedExceptions = IllegalStateException.class)
+	public void checkedOutTest() throws Throwable {
+		List<ModelObjectExceptionHandler> handlers = handler();
+		handle(ExceptionHandlerDispatcher.empty().with(handlers)
+				.without(handlers));
+	}
+
+	// each object of the class gets its own instances of declared handlers
+	@Test
+	public void declaredHandlersTest() throws Throwable {
+		Object first = handle(ExceptionHandlerDispatcher
+				.declaredBy(Declaring.class));
+		Object second = handle(ExceptionHandlerDispatcher
+				.declaredBy(Declaring.class));
+		Assert.assertTrue(first instanceof SelfReturningHandler);
+		Assert.assertTrue(second instanceof SelfReturningHandler);
+		Assert.assertNotSame(first, second);
+	}
+
+	@Test
+	public void unknownHandlerTest() {
+		ExceptionHandlerDispatcher dispatcher = ExceptionHandlerDispatcher
+				.empty().with(handler());
+		Assert.assertSame(dispatcher, dispatcher.without(handler()));
+	}
+}
@@ -0,0 +1,166 @@
+package implicitliwait_test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriver.Options;
+import org.openqa.selenium.WebDriver.Timeouts;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.arachnidium.core.components.common.TimeOut;
+import com.github.arachnidium.util.configuration.Configuration;
+
+public class TimeOutTest {
+
+	// it counts implicitly wait time outs which are sent to the session
+	private static class CountingTimeouts implements Timeouts {
+		private final List<Long> implicitlyWaits = new ArrayList<>();
+		private final List<Thread> threads = new ArrayList<>();
+
+		@Override
+		public Timeouts implicitlyWait(long time, TimeUnit unit) {
+			implicitlyWaits.add(unit.toMillis(time));
+			threads.add(Thread.currentThread());
+			return this;
+		}
+
+		@Override
+		public Timeouts setScriptTimeout(long time, TimeUnit unit) {
+			threads.add(Thread.currentThread());
+			return this;
+		}
+
+		@Override
+		public Timeouts pageLoadTimeout(long time, TimeUnit unit) {
+			threads.add(Thread.currentThread());
+			return this;
+		}
+	}
+
+	private CountingTimeouts timeouts;
+	private TimeOut timeOut;
+
+	private static <T> T stub(Class<T> type, Object result) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(),
+				new Class<?>[] { type }, (proxy, method, args) -> result));
+	}
+
+	@BeforeMethod
+	public void setUp() {
+		timeouts = new CountingTimeouts();
+		WebDriver driver = stub(WebDriver.class,
+				stub(Options.class, timeouts));
+		timeOut = new TimeOut(driver) {
+		};
+		timeOut.implicitlyWait(10, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void nestedTimeOutsTest() {
+		timeOut.withImplicitWait(0, TimeUnit.SECONDS, () -> {
+			Assert.assertEquals(0, timeOut.getImplicitlyWaitTimeOut());
+			// the same value is not sent again
+			timeOut.withImplicitWait(0, TimeUnit.MILLISECONDS, () -> null);
+			timeOut.withImplicitWait(5, TimeUnit.SECONDS, () -> {
+				Assert.assertEquals(5, timeOut.getImplicitlyWaitTimeOut());
+				return null;
+			});
+			Assert.assertEquals(0, timeOut.getImplicitlyWaitTimeOut());
+			return null;
+		});
+		Assert.assertEquals(10, timeOut.getImplicitlyWaitTimeOut());
+		Assert.assertEquals(TimeUnit.SECONDS,
+				timeOut.getImplicitlyWaitTimeUnit());
+		// previous time outs are not restored at once
+		Assert.assertArrayEquals(new Object[] { 10000L, 0L, 5000L },
+				timeouts.implicitlyWaits.toArray());
+
+		timeOut.ensureImplicitlyWait();
+		timeOut.ensureImplicitlyWait();
+		Assert.assertArrayEquals(new Object[] { 10000L, 0L, 5000L, 10000L },
+				timeouts.implicitlyWaits.toArray());
+	}
+
+	@Test
+	public void lazyRestoreTest() {
+		timeOut.withImplicitWait(0, TimeUnit.SECONDS, () -> null);
+		timeOut.withImplicitWait(0, TimeUnit.SECONDS, () -> {
+			timeOut.ensureImplicitlyWait();
+			return null;
+		});
+		Assert.assertArrayEquals(new Object[] { 10000L, 0L },
+				timeouts.implicitlyWaits.toArray());
+	}
+
+	@Test
+	public void forgetAppliedImplicitlyWaitTest() {
+		timeOut.withImplicitWait(0, TimeUnit.SECONDS, () -> null);
+		// somebody else has changed the time out of the session
+		timeOut.forgetAppliedImplicitlyWait();
+		timeOut.withImplicitWait(0, TimeUnit.SECONDS, () -> null);
+		Assert.assertArrayEquals(new Object[] { 10000L, 0L, 0L },
+				timeouts.implicitlyWaits.toArray());
+	}
+
+	@Test
+	public void implicitlyWaitInsideScopeTest() {
+		timeOut.withImplicitWait(0, TimeUnit.SECONDS, () -> {
+			timeOut.implicitlyWait(7, TimeUnit.SECONDS);
+			Assert.assertEquals(0, timeOut.getImplicitlyWaitTimeOut());
+			return null;
+		});
+		Assert.assertEquals(7, timeOut.getImplicitlyWaitTimeOut());
+		timeOut.ensureImplicitlyWait();
+		Assert.assertArrayEquals(new Object[] { 10000L, 0L, 7000L },
+				timeouts.implicitlyWaits.toArray());
+	}
+
+	@Test
+	public void reloadTest() throws InterruptedException {
+		Configuration config = Configuration
+				.get("src/test/resources/fake_pageobject/fakesettings.json");
+		Thread watcher = new Thread(() -> timeOut
+				.resetLaterAccordingTo(config));
+		watcher.start();
+		watcher.join();
+		// nothing is sent by the thread which reloads settings
+		Assert.assertEquals(1, timeouts.threads.size());
+		Assert.assertEquals(10, timeOut.getImplicitlyWaitTimeOut());
+
+		timeOut.applyPendingConfiguration();
+		Assert.assertEquals(18500, timeOut.getImplicitlyWaitTimeUnit()
+				.toMillis(timeOut.getImplicitlyWaitTimeOut()));
+		Assert.assertArrayEquals(new Object[] { 10000L, 18500L },
+				timeouts.implicitlyWaits.toArray());
+		for (Thread thread : timeouts.threads) {
+			Assert.assertSame(Thread.currentThread(), thread);
+		}
+
+		// the configuration is applied once
+		int sent = timeouts.threads.size();
+		timeOut.applyPendingConfiguration();
+		Assert.assertEquals(sent, timeouts.threads.size());
+	}
+
+	@Test
+	public void reloadInsideScopeTest() {
+		Configuration config = Configuration
+				.get("src/test/resources/fake_pageobject/fakesettings.json");
+		timeOut.withImplicitWait(0, TimeUnit.SECONDS, () -> {
+			timeOut.resetLaterAccordingTo(config);
+			// the nested call applies the configuration. The temporary time
+			// out is still in effect
+			timeOut.withImplicitWait(0, TimeUnit.SECONDS, () -> null);
+			Assert.assertEquals(0, timeOut.getImplicitlyWaitTimeOut());
+			return null;
+		});
+		timeOut.ensureImplicitlyWait();
+		Assert.assertArrayEquals(new Object[] { 10000L, 0L, 18500L },
+				timeouts.implicitlyWaits.toArray());
+	}
+}
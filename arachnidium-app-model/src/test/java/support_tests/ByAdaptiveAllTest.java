@@ -0,0 +1,103 @@
+package support_tests;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import com.github.arachnidium.core.settings.supported.ESupportedDrivers;
+import com.github.arachnidium.model.support.ByAdaptiveAll;
+
+public class ByAdaptiveAllTest {
+
+	// finds the given element and counts searches
+	private static class CountingBy extends By {
+		private final String name;
+		private final WebElement element;
+		private int searches;
+
+		private CountingBy(String name, WebElement element) {
+			this.name = name;
+			this.element = element;
+		}
+
+		@Override
+		public List<WebElement> findElements(SearchContext context) {
+			searches++;
+			if (element == null) {
+				return new ArrayList<>();
+			}
+			return Collections.singletonList(element);
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+
+	private static WebElement element(String id) {
+		RemoteWebElement element = new RemoteWebElement();
+		element.setId(id);
+		return element;
+	}
+
+	@AfterMethod
+	public void tearDown() {
+		System.clearProperty(ByAdaptiveAll.ADAPTIVE_PROPERTY);
+	}
+
+	@Test
+	public void declaredOrderTest() throws Exception {
+		CountingBy missing = new CountingBy("missing", null);
+		CountingBy preferred = new CountingBy("preferred", element("1"));
+		CountingBy fallback = new CountingBy("fallback", element("2"));
+		By by = new ByAdaptiveAll(getClass().getMethod("declaredOrderTest"),
+				ESupportedDrivers.CHROME, missing, preferred, fallback);
+
+		for (int i = 0; i < 3; i++) {
+			// the same element as ByAll finds
+			Assert.assertEquals("1",
+					((RemoteWebElement) by.findElement(null)).getId());
+		}
+		Assert.assertEquals(3, missing.searches);
+		Assert.assertEquals(3, preferred.searches);
+		// alternatives after the matching one are not tried
+		Assert.assertEquals(0, fallback.searches);
+		// the list is the same as ByAll returns
+		Assert.assertEquals(2, by.findElements(null).size());
+	}
+
+	@Test
+	public void reorderingTest() throws Exception {
+		System.setProperty(ByAdaptiveAll.ADAPTIVE_PROPERTY, "true");
+		CountingBy missing = new CountingBy("missing", null);
+		CountingBy found = new CountingBy("found", element("1"));
+		By by = new ByAdaptiveAll(getClass().getMethod("reorderingTest"),
+				ESupportedDrivers.ANDROID_APP, missing, found);
+
+		by.findElement(null);
+		Assert.assertEquals(1, missing.searches);
+		for (int i = 0; i < 3; i++) {
+			by.findElement(null);
+		}
+		// the successful alternative is tried at first
+		Assert.assertEquals(1, missing.searches);
+		Assert.assertEquals(4, found.searches);
+	}
+
+	@Test(expectedExceptions = NoSuchElementException.class)
+	public void nothingIsFoundTest() throws Exception {
+		new ByAdaptiveAll(getClass().getMethod("nothingIsFoundTest"),
+				ESupportedDrivers.CHROME, new CountingBy("missing", null))
+				.findElement(null);
+	}
+}
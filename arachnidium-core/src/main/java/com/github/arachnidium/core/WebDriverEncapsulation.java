@@ -17,6 +17,9 @@
 
 package com.github.arachnidium.core;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.internal.WrapsDriver;
@@ -26,6 +29,7 @@ import org.springframework.context.support.AbstractApplicationContext;
 
 import com.github.arachnidium.core.bean.MainBeanConfiguration;
 import com.github.arachnidium.core.components.ComponentFactory;
+import com.github.arachnidium.core.components.NotShared;
 import com.github.arachnidium.core.components.WebdriverComponent;
 import com.github.arachnidium.core.components.common.TimeOut;
 import com.github.arachnidium.core.interfaces.IDestroyable;
@@ -51,6 +55,12 @@ public class WebDriverEncapsulation implements IDestroyable, IConfigurable,
 	private final DestroyableObjects destroyableObjects = new DestroyableObjects();
 	private final TimeOut timeOut;
 	private final ESupportedDrivers instantiatedESupportedDriver;
+	// components which are shared within the session
+	private final ConcurrentMap<Class<?>, WebdriverComponent> components = 
+			new ConcurrentHashMap<>();
+	// settings are reloaded by the thread which watches the file. Time outs
+	// are applied by the thread which uses the session
+	private final IConfigurable reloadListener = this::resetLaterAccordingTo;
 
 	/**
 	 * Allows to instantiate the selected {@link WebDriver} by given parameters.
@@ -87,6 +97,7 @@ public class WebDriverEncapsulation implements IDestroyable, IConfigurable,
 	 */
 	@Override
 	public void destroy() {
+		configuration.removeListener(reloadListener);
 		if (enclosedDriver == null)
 			return;
 		try {
@@ -106,10 +117,20 @@ public class WebDriverEncapsulation implements IDestroyable, IConfigurable,
 
 	/**
 	 * @param required {@link WebdriverComponent} subclass
-	 * @return The instance of required {@link WebdriverComponent} subclass
+	 * @return The instance of required {@link WebdriverComponent} subclass.
+	 * It is created once per session and then it is shared. If the required class 
+	 * is marked by {@link NotShared} then a new instance is returned.
 	 */
 	public <T extends WebdriverComponent> T getComponent(Class<T> required) {
-		return ComponentFactory.getComponent(required, enclosedDriver);
+		if (required.isAnnotationPresent(NotShared.class)) {
+			return ComponentFactory.getComponent(required, enclosedDriver);
+		}
+		WebdriverComponent component = components.get(required);
+		if (component == null) {
+			component = components.computeIfAbsent(required, 
+					c -> ComponentFactory.getComponent(required, enclosedDriver));
+		}
+		return required.cast(component);
 	}
 
 	/**
@@ -142,16 +163,28 @@ public class WebDriverEncapsulation implements IDestroyable, IConfigurable,
 
 	/**
 	 * This method replaces previous {@link Configuration}
-	 * and applies new given parameters 
+	 * and applies new given parameters. They are applied again
+	 * when the watched {@link Configuration} is changed. Only changed
+	 * time outs are sent to the {@link WebDriver}. Reloaded settings
+	 * are applied by the thread which uses the session
 	 * 
+	 * @see Configuration#watch()
+	 * @see TimeOut#applyPendingConfiguration()
 	 * @see com.github.arachnidium.util.configuration.interfaces.IConfigurable#resetAccordingTo(com.github.arachnidium.util.configuration.Configuration)
 	 */
 	@Override
 	public synchronized void resetAccordingTo(Configuration config) {
+		if (configuration != config)
+			configuration.removeListener(reloadListener);
 		configuration = config;
+		configuration.addListener(reloadListener);
 		timeOut.resetAccordingTo(configuration);
 	}
 
+	private void resetLaterAccordingTo(Configuration config) {
+		timeOut.resetLaterAccordingTo(config);
+	}
+
 	/**
 	 * Returns {@link Configuration}
 	 * 
@@ -169,4 +202,4 @@ public class WebDriverEncapsulation implements IDestroyable, IConfigurable,
 	public ESupportedDrivers getInstantiatedSupportedDriver(){
 		return instantiatedESupportedDriver;
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -258,11 +258,13 @@ public abstract class AbstractAspect {
 
 		if (listerArgValues.length == 0) {
 			try {
+				m.setAccessible(true);
 				m.invoke(aspectObject, EMPTY_PARAMETER_VALUES);
 			} catch (IllegalAccessException | IllegalArgumentException
 					| InvocationTargetException e) {
 				throw new RuntimeException(e);
 			}
+			return;
 		}
 
 		for (int i = 0; i < listenerParams.length; i++) {
@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.function.Supplier;
 
 import com.github.arachnidium.util.configuration.interfaces.IConfigurationWrapper;
 import com.github.arachnidium.util.logging.Log;
@@ -70,7 +71,7 @@ class AspectContextListener extends DefaultHandleListener implements
 	@Override
 	@BeforeTarget(targetClass = IContext.class, targetMethod = "switchToMe")
 	public void beforeIsSwitchedOn(@TargetParam IHasHandle handle) {
-		Log.debug("Attempt to switch to context " + handle.getHandle());
+		Log.debug(() -> "Attempt to switch to context " + handle.getHandle());
 		contextListenerProxy.beforeIsSwitchedOn(handle);
 	}
 
@@ -81,7 +82,7 @@ class AspectContextListener extends DefaultHandleListener implements
 	@Override
 	@AfterTarget(targetClass = IContext.class, targetMethod = "switchToMe")
 	public void whenIsSwitchedOn(@TargetParam IHasHandle handle) {
-		Log.message("Current context is " + handle.getHandle()
+		Log.message(() -> "Current context is " + handle.getHandle()
 				+ getActivityDescription(handle));
 		contextListenerProxy.whenIsSwitchedOn(handle);
 	}
@@ -93,12 +94,12 @@ class AspectContextListener extends DefaultHandleListener implements
 	@Override
 	@AfterTarget(targetClass = IContext.class, targetMethod = "whenIsCreated")
 	public void whenNewHandleIsAppeared(@TargetParam IHasHandle handle) {
-		String message = "A new context " + handle.getHandle()
+		Supplier<String> message = () -> "A new context " + handle.getHandle()
 				+ getActivityDescription(handle);
 		if (configurationWrapper.getWrappedConfiguration()
 				.getSection(ScreenShots.class)
 				.getToTakeScreenShotsOfNewHandles()) {
-			((ITakesPictureOfItSelf) handle).takeAPictureOfAnInfo(message);
+			((ITakesPictureOfItSelf) handle).takeAPictureOfAnInfo(message.get());
 		} else {
 			Log.message(message);
 		}
@@ -144,7 +145,7 @@ class AspectContextListener extends DefaultHandleListener implements
 	@BeforeTarget(targetClass = IContext.class, targetMethod = "rotate")
 	public void beforeIsRotated(@TargetParam IHasHandle handle,
 			@UseParameter(number = 0) ScreenOrientation orientation) {
-		Log.debug("Attempt to rotate screen. Context is " + handle.getHandle()
+		Log.debug(() -> "Attempt to rotate screen. Context is " + handle.getHandle()
 				+ getActivityDescription(handle) + ", new orientation is "
 				+ orientation.toString());
 		contextListenerProxy.beforeIsRotated(handle, orientation);
@@ -158,7 +159,7 @@ class AspectContextListener extends DefaultHandleListener implements
 	@AfterTarget(targetClass = IContext.class, targetMethod = "rotate")
 	public void whenIsRotated(@TargetParam IHasHandle handle,
 			@UseParameter(number = 0) ScreenOrientation orientation) {
-		Log.debug("Screen was rotated. Context is " + handle.getHandle()
+		Log.debug(() -> "Screen was rotated. Context is " + handle.getHandle()
 				+ getActivityDescription(handle) + ", new orientation is "
 				+ orientation.toString());
 		contextListenerProxy.whenIsRotated(handle, orientation);
@@ -15,6 +15,7 @@ import java.util.ServiceLoader;
 
 import com.github.arachnidium.util.configuration.interfaces.IConfigurationWrapper;
 import com.github.arachnidium.util.logging.Log;
+import com.github.arachnidium.util.logging.eAvailableLevels;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -29,6 +30,8 @@ import org.openqa.selenium.WebDriver.TargetLocator;
 import org.openqa.selenium.WebElement;
 import org.springframework.context.support.AbstractApplicationContext;
 
+import com.github.arachnidium.core.WebDriverEncapsulation;
+import com.github.arachnidium.core.components.common.TimeOut;
 import com.github.arachnidium.core.eventlisteners.IWebDriverEventListener;
 import com.github.arachnidium.core.highlighting.IWebElementHighlighter;
 import com.github.arachnidium.core.highlighting.WebElementHighLighter;
@@ -39,14 +42,14 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 		IWebDriverEventListener {
 
 	private static enum HowToHighLightElement {
-		INFO {
+		INFO(eAvailableLevels.INFO) {
 			@Override
 			void highLight(IWebElementHighlighter highlighter,
 					WebDriver driver, WebElement element, String message) {
 				highlighter.highlightAsInfo(driver, element, message);
 			}
 		},
-		DEBUG {
+		DEBUG(eAvailableLevels.FINE) {
 			@Override
 			void highLight(IWebElementHighlighter highlighter,
 					WebDriver driver, WebElement element, String message) {
@@ -54,6 +57,12 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 			}
 		};
 
+		private final eAvailableLevels level;
+
+		private HowToHighLightElement(eAvailableLevels level) {
+			this.level = level;
+		}
+
 		void highLight(IWebElementHighlighter highlighter, WebDriver driver,
 				WebElement element, String message) {
 			// does nothing
@@ -139,6 +148,14 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 		return null;
 	}
 
+	// it is null while the session is being created
+	private TimeOut getTimeOut() {
+		if (configurationWrapper instanceof WebDriverEncapsulation) {
+			return ((WebDriverEncapsulation) configurationWrapper).getTimeOut();
+		}
+		return null;
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T> T getListenable(Object object) {
 		Class<?> classForProxy = getClassForProxy(object.getClass());
@@ -170,7 +187,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	 */
 	@Override
 	public void beforeNavigateTo(String url, WebDriver driver) {
-		Log.message("Attempt to navigate to another url. Required url is "
+		Log.message(() -> "Attempt to navigate to another url. Required url is "
 				+ url);
 		proxyListener.beforeNavigateTo(url, driver);
 	}
@@ -181,7 +198,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	 */
 	@Override
 	public void afterNavigateTo(String url, WebDriver driver) {
-		Log.message("Current URL is " + driver.getCurrentUrl());
+		Log.message(() -> "Current URL is " + driver.getCurrentUrl());
 		proxyListener.afterNavigateTo(url, driver);
 	}
 
@@ -191,7 +208,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@BeforeTarget(targetClass = Navigation.class, targetMethod = "back")
 	@Override
 	public void beforeNavigateBack(@SupportParam WebDriver driver) {
-		Log.message("Attempt to navigate to previous url. Current url is "
+		Log.message(() -> "Attempt to navigate to previous url. Current url is "
 				+ driver.getCurrentUrl());
 		proxyListener.beforeNavigateBack(driver);
 	}
@@ -202,7 +219,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@AfterTarget(targetClass = Navigation.class, targetMethod = "back")
 	@Override
 	public void afterNavigateBack(@SupportParam WebDriver driver) {
-		Log.message("Current URL is  " + driver.getCurrentUrl());
+		Log.message(() -> "Current URL is  " + driver.getCurrentUrl());
 		proxyListener.afterNavigateBack(driver);
 
 	}
@@ -213,7 +230,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@BeforeTarget(targetClass = Navigation.class, targetMethod = "forward")
 	@Override
 	public void beforeNavigateForward(@SupportParam WebDriver driver) {
-		Log.message("Attempt to navigate to next url. Current url is "
+		Log.message(() -> "Attempt to navigate to next url. Current url is "
 				+ driver.getCurrentUrl());
 		proxyListener.beforeNavigateForward(driver);
 	}
@@ -224,7 +241,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@AfterTarget(targetClass = Navigation.class, targetMethod = "forward")
 	@Override
 	public void afterNavigateForward(@SupportParam WebDriver driver) {
-		Log.message("Current URL is  " + driver.getCurrentUrl());
+		Log.message(() -> "Current URL is  " + driver.getCurrentUrl());
 		proxyListener.afterNavigateForward(driver);
 	}
 
@@ -239,7 +256,13 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@Override
 	public void beforeFindBy(@UseParameter(number = 0) By by,
 			@TargetParam WebElement element, @SupportParam WebDriver driver) {
-		Log.debug("Searching for element by locator " + by.toString()
+		// the implicitly wait time out which is in effect now is sent if it
+		// is not applied yet
+		TimeOut timeOut = getTimeOut();
+		if (timeOut != null) {
+			timeOut.ensureImplicitlyWait();
+		}
+		Log.debug(() -> "Searching for element by locator " + by.toString()
 				+ " has been started");
 		if (element != null) {
 			highlightElementAndLogAction(element, "Using root element",
@@ -259,7 +282,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@Override
 	public void afterFindBy(@UseParameter(number = 0) By by,
 			@TargetParam WebElement element, @SupportParam WebDriver driver) {
-		Log.debug("Searching for web element has been finished. Locator is "
+		Log.debug(() -> "Searching for web element has been finished. Locator is "
 				+ by.toString());
 		if (element != null) {
 			highlightElementAndLogAction(element, "Root element was used",
@@ -268,6 +291,16 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 		proxyListener.afterFindBy(by, element, driver);
 	}
 
+	// time outs can be changed by somebody else (e.g. by the field decorator
+	// of Appium). The applied implicitly wait time out is not known then
+	@BeforeTarget(targetClass = Options.class, targetMethod = "timeouts")
+	private void beforeTimeOutsChanging() {
+		TimeOut timeOut = getTimeOut();
+		if (timeOut != null) {
+			timeOut.forgetAppliedImplicitlyWait();
+		}
+	}
+
 	@BeforeTarget(targetClass = WebElement.class, targetMethod = "click")
 	@Override
 	public void beforeClickOn(@TargetParam WebElement element,
@@ -353,7 +386,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	 */
 	@Override
 	public void onException(Throwable throwable, WebDriver driver) {
-		Log.debug("An exception has been caught out."
+		Log.debug(() -> "An exception has been caught out."
 				+ throwable.getClass().getName() + ":" + throwable.getMessage());
 		proxyListener.onException(throwable, driver);
 	}
@@ -391,7 +424,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@Override
 	public void afterAlertSendKeys(@SupportParam WebDriver driver,
 			@TargetParam Alert alert, @UseParameter(number = 0) String keys) {
-		Log.message("String " + keys + " has been sent to alert");
+		Log.message(() -> "String " + keys + " has been sent to alert");
 		proxyListener.afterAlertSendKeys(driver, alert, keys);
 	}
 
@@ -439,7 +472,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@Override
 	public void beforeAlertSendKeys(@SupportParam WebDriver driver,
 			@TargetParam Alert alert, String keys) {
-		Log.message("Attemt to send string " + keys + " to alert...");
+		Log.message(() -> "Attemt to send string " + keys + " to alert...");
 		proxyListener.beforeAlertSendKeys(driver, alert, keys);
 	}
 
@@ -476,7 +509,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@Override
 	public void beforeFindBy(@UseParameter(number = 0) String byString,
 			@TargetParam WebElement element, @SupportParam WebDriver driver) {
-		Log.debug("Searching for element by locator " + byString
+		Log.debug(() -> "Searching for element by locator " + byString
 				+ " has been started");
 		if (element != null) {
 			highlightElementAndLogAction(element, "Using root element",
@@ -504,7 +537,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@Override
 	public void afterFindBy(@UseParameter(number = 0) String byString,
 			@TargetParam WebElement element, @SupportParam WebDriver driver) {
-		Log.debug("Searching for web element has been finished. Locator is "
+		Log.debug(() -> "Searching for web element has been finished. Locator is "
 				+ byString);
 		if (element != null) {
 			highlightElementAndLogAction(element, "Root element was used",
@@ -546,6 +579,11 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 
 	private void highlightElementAndLogAction(WebElement element,
 			String logMessage, HowToHighLightElement howToHighLightElement) {
+		// the element description requires remote calls. So it is built
+		// and highlighted only if the message is going to be logged
+		if (!Log.isLoggable(howToHighLightElement.level)) {
+			return;
+		}
 		String elementDescription = elementDescription(element);
 		highLighter.resetAccordingTo(configurationWrapper
 				.getWrappedConfiguration());
@@ -68,7 +68,7 @@ class AspectWindowListener extends DefaultHandleListener implements
 	@Override
 	@BeforeTarget(targetClass = IExtendedWindow.class, targetMethod = "switchToMe")
 	public void beforeIsSwitchedOn(@TargetParam IHasHandle handle) {
-		Log.debug("Attempt to switch window on by handle " + handle.getHandle());
+		Log.debug(() -> "Attempt to switch window on by handle " + handle.getHandle());
 		windowListenerProxy.beforeIsSwitchedOn(handle);
 	}
 
@@ -104,7 +104,7 @@ class AspectWindowListener extends DefaultHandleListener implements
 	@Override
 	@BeforeTarget(targetClass = IExtendedWindow.class, targetMethod = "setPosition")
 	public void beforeWindowIsMoved(@TargetParam IExtendedWindow window, @UseParameter(number =0) Point point) {
-		Log.message("Attempt to change window position. X "
+		Log.message(() -> "Attempt to change window position. X "
 				+ Integer.toString(point.getX()) + " Y "
 				+ Integer.toString(point.getY()));
 		postWindowUrl(window);
@@ -132,7 +132,7 @@ class AspectWindowListener extends DefaultHandleListener implements
 	@BeforeTarget(targetClass = IExtendedWindow.class, targetMethod = "setSize")
 	public void beforeWindowIsResized(@TargetParam  IExtendedWindow window,
 			@UseParameter(number=0) Dimension dimension) {
-		Log.message("Attempt to change window size. New height is "
+		Log.message(() -> "Attempt to change window size. New height is "
 				+ Integer.toString(dimension.getHeight()) + " new width is "
 				+ Integer.toString(dimension.getWidth()));
 		postWindowUrl(window);
@@ -141,9 +141,9 @@ class AspectWindowListener extends DefaultHandleListener implements
 
 	private void postWindowUrl(IExtendedWindow window) {
 		try {
-			Log.message("URL is " + window.getCurrentUrl());
+			Log.message(() -> "URL is " + window.getCurrentUrl());
 		} catch (TimeoutException e) {
-			Log.debug("Couldn't get the current URL. " + e.getClass() + " :"
+			Log.debug(() -> "Couldn't get the current URL. " + e.getClass() + " :"
 					+ e.getMessage() + " was caught");
 		}
 	}
@@ -208,7 +208,7 @@ class AspectWindowListener extends DefaultHandleListener implements
 	@Override
 	@AfterTarget(targetClass = IExtendedWindow.class, targetMethod = "setPosition")
 	public void whenWindowIsMoved(@TargetParam IExtendedWindow window, @UseParameter(number =0) Point point) {
-		Log.message("Window position has been changed to X "
+		Log.message(() -> "Window position has been changed to X "
 				+ Integer.toString(point.getX()) + " Y "
 				+ Integer.toString(point.getY()));
 		postWindowUrl(window);
@@ -235,7 +235,7 @@ class AspectWindowListener extends DefaultHandleListener implements
 	@Override
 	@AfterTarget(targetClass = IExtendedWindow.class, targetMethod = "setSize")
 	public void whenWindowIsResized(@TargetParam IExtendedWindow window, @UseParameter(number=0) Dimension dimension) {
-		Log.message("Window size has been changed! New height is "
+		Log.message(() -> "Window size has been changed! New height is "
 				+ Integer.toString(dimension.getHeight()) + " new width is "
 				+ Integer.toString(dimension.getWidth()));
 		postWindowUrl(window);
@@ -1,22 +1,43 @@
 package com.github.arachnidium.core.components;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import net.sf.cglib.proxy.MethodProxy;
 
 import com.github.arachnidium.util.proxy.DefaultInterceptor;
 
 class ComponentInterceptor extends DefaultInterceptor {
+	// methods of delegates are found once
+	private static final ConcurrentMap<Class<?>, ConcurrentMap<Method, Method>> REAL_METHODS = 
+			new ConcurrentHashMap<>();
+	
+	private static Method getRealMethod(Class<?> realClass, Method method)
+			throws NoSuchMethodException {
+		ConcurrentMap<Method, Method> methods = REAL_METHODS.get(realClass);
+		if (methods == null) {
+			methods = REAL_METHODS.computeIfAbsent(realClass,
+					c -> new ConcurrentHashMap<>());
+		}
+		Method realMethod = methods.get(method);
+		if (realMethod == null) {
+			realMethod = realClass.getMethod(method.getName(),
+					method.getParameterTypes());
+			methods.put(method, realMethod);
+		}
+		return realMethod;
+	}
+	
 	@Override
 	public Object intercept(Object obj, Method method, Object[] args,
 			MethodProxy proxy) throws Throwable {
 		Object realObject = ((WebdriverComponent) obj).delegate;
-		Method realMethod = realObject.getClass().getMethod(method.getName(),
-				method.getParameterTypes());
 		if (obj.getClass().equals(realObject.getClass())) {
 			return super.intercept(realObject, method, args, proxy);
 		} else {
-			return realMethod.invoke(realObject, args);
+			return getRealMethod(realObject.getClass(), method).invoke(
+					realObject, args);
 		}
 	}
 
@@ -0,0 +1,24 @@
+package com.github.arachnidium.core.components;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.github.arachnidium.core.WebDriverEncapsulation;
+
+/**
+ * This annotation marks subclasses of {@link WebdriverComponent} which have
+ * their own state. A new instance of the marked class is created each time when 
+ * it is required. Instances of other subclasses are created once and they are 
+ * shared within the session.
+ * 
+ * @see WebDriverEncapsulation#getComponent(Class)
+ */
+@Target(value = ElementType.TYPE)
+@Retention(value = RetentionPolicy.RUNTIME)
+@Inherited
+public @interface NotShared {
+
+}
@@ -6,12 +6,14 @@ import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
+import com.github.arachnidium.core.components.NotShared;
 import com.github.arachnidium.core.components.WebdriverComponent;
 
 /**
  * {@link Alert} implementor
  *
  */
+@NotShared
 public abstract class AlertHandler extends WebdriverComponent implements Alert {
 
 	/**
@@ -1,5 +1,8 @@
 package com.github.arachnidium.core.components.common;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 
 import com.github.arachnidium.util.configuration.Configuration;
@@ -9,13 +12,33 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriver.Timeouts;
 import org.openqa.selenium.WebDriverException;
 
+import com.github.arachnidium.core.components.NotShared;
 import com.github.arachnidium.core.components.WebdriverComponent;
 import com.github.arachnidium.core.settings.WebDriverTimeOuts;
 
 /**
  * {@link Timeouts} implementor
  * New possibilities: It can pass out given time outs values.
+ * When it is reset according to {@link Configuration} again only changed
+ * time outs are sent to the {@link WebDriver}.
+ * It remembers the implicitly wait time out which is applied to the session.
+ * So the command is sent only when the value is really changed. The time
+ * out can be changed temporarily by
+ * {@link #withImplicitWait(long, TimeUnit, Callable)}. The previous time out
+ * is not restored at once. It is sent by {@link #ensureImplicitlyWait()}
+ * before the next search for elements, so a series of searches with the same
+ * temporary time out costs no extra commands. If somebody else changes the
+ * time out of the session then {@link #forgetAppliedImplicitlyWait()}
+ * should be invoked.<br/>
+ * <br/>
+ * The state is guarded by the lock of this object. The session is not thread
+ * safe, so a configuration which is reloaded by another thread is not applied
+ * at once. It is remembered by {@link #resetLaterAccordingTo(Configuration)}
+ * and applied by the thread which uses the session. When it happens during
+ * {@link #withImplicitWait(long, TimeUnit, Callable)} the new implicitly wait
+ * time out is in effect when the outermost temporary time out is over.
  */
+@NotShared
 public abstract class TimeOut extends WebdriverComponent implements Timeouts,
 		IConfigurable {
 
@@ -31,62 +54,177 @@ public abstract class TimeOut extends WebdriverComponent implements Timeouts,
 	private long scriptTimeOut = defaultTimeOut;
 
 	private TimeUnit scriptTimeUnit = defaultTimeUnit;
+	// time outs were set according to configuration
+	private boolean isConfigured;
+	// milliseconds which are applied to the session. -1 means that the value
+	// is unknown
+	private long appliedImplicitlyWait = -1;
+	// temporary time outs. The last one is applied to the session
+	private final Deque<ImplicitWait> temporaryImplicitlyWaits = new ArrayDeque<>();
+	// the configuration which was reloaded by another thread. It is not
+	// applied yet
+	private Configuration pendingConfiguration;
+
+	private static class ImplicitWait {
+		private final long timeOut;
+		private final TimeUnit timeUnit;
+
+		private ImplicitWait(long timeOut, TimeUnit timeUnit) {
+			this.timeOut = timeOut;
+			this.timeUnit = timeUnit;
+		}
+	}
 
 	public TimeOut(WebDriver driver) {
 		super(driver);
 		delegate = this;
 	}
 
-	public long getImplicitlyWaitTimeOut() {
+	/**
+	 * @return the implicitly wait time out which is in effect now. It is the
+	 *         temporary time out when
+	 *         {@link #withImplicitWait(long, TimeUnit, Callable)} is performed
+	 */
+	public synchronized long getImplicitlyWaitTimeOut() {
+		ImplicitWait temporary = temporaryImplicitlyWaits.peek();
+		if (temporary != null) {
+			return temporary.timeOut;
+		}
 		return implicitlyWaitTimeOut;
 	}
 
-	public TimeUnit getImplicitlyWaitTimeUnit() {
+	/**
+	 * @return the {@link TimeUnit} of the implicitly wait time out which is
+	 *         in effect now
+	 */
+	public synchronized TimeUnit getImplicitlyWaitTimeUnit() {
+		ImplicitWait temporary = temporaryImplicitlyWaits.peek();
+		if (temporary != null) {
+			return temporary.timeUnit;
+		}
 		return implicitlyWaitTimeUnit;
 	}
 
-	public long getPageLoadTimeOut() {
+	public synchronized long getPageLoadTimeOut() {
 		return pageLoadTimeOut;
 	}
 
-	public TimeUnit getPageLoadTimeUnit() {
+	public synchronized TimeUnit getPageLoadTimeUnit() {
 		return pageLoadTimeUnit;
 	}
 
-	public long getScriptTimeOut() {
+	public synchronized long getScriptTimeOut() {
 		return scriptTimeOut;
 	}
 
-	public TimeUnit getScriptTimeUnit() {
+	public synchronized TimeUnit getScriptTimeUnit() {
 		return scriptTimeUnit;
 	}
 
+	private boolean isChanged(long current, TimeUnit currentTimeUnit,
+			long timeOut, TimeUnit timeUnit) {
+		return !isConfigured
+				|| currentTimeUnit.toMillis(current) != timeUnit.toMillis(timeOut);
+	}
+
 	private Long getTimeOutValue(Long longObjParam) {
 		if (longObjParam == null)
 			longObjParam = defaultTimeOut;
 		return longObjParam;
 	}
 
-	@Override
-	public Timeouts implicitlyWait(long timeOut, TimeUnit timeUnit) {
-		boolean timeOutsAreSetWell = true;
+	// sends the time out if it differs from the applied one
+	private Timeouts applyImplicitlyWait(long timeOut, TimeUnit timeUnit) {
+		long millis = timeUnit.toMillis(timeOut);
+		if (millis == appliedImplicitlyWait) {
+			return this;
+		}
 		try {
-			return driver.manage().timeouts().implicitlyWait(timeOut, timeUnit);
-
+			Timeouts result = driver.manage().timeouts()
+					.implicitlyWait(timeOut, timeUnit);
+			appliedImplicitlyWait = millis;
+			return result;
 		} catch (WebDriverException e) {
 			Log.debug("Setting of an implicitly wait timeout is not supported.");
-			timeOutsAreSetWell = false;
 			return null;
+		}
+	}
+
+	/**
+	 * The implicitly wait time out of the session is not known anymore. It is
+	 * sent again next time. It should be invoked when somebody else can
+	 * change the time out (e.g. a field decorator)
+	 */
+	public synchronized void forgetAppliedImplicitlyWait() {
+		appliedImplicitlyWait = -1;
+	}
+
+	/**
+	 * Sends the implicitly wait time out which is in effect now if the
+	 * session may have another one. A reloaded configuration is applied
+	 * before. It should be invoked by the thread which uses the session
+	 * before elements are searched for
+	 */
+	public synchronized void ensureImplicitlyWait() {
+		applyPendingConfiguration();
+		ImplicitWait temporary = temporaryImplicitlyWaits.peek();
+		if (temporary != null) {
+			applyImplicitlyWait(temporary.timeOut, temporary.timeUnit);
+		} else {
+			applyImplicitlyWait(implicitlyWaitTimeOut, implicitlyWaitTimeUnit);
+		}
+	}
+
+	/**
+	 * Sets the implicitly wait time out. If it is invoked during
+	 * {@link #withImplicitWait(long, TimeUnit, Callable)} then the time out is
+	 * applied when temporary time outs are over
+	 */
+	@Override
+	public synchronized Timeouts implicitlyWait(long timeOut, TimeUnit timeUnit) {
+		applyPendingConfiguration();
+		implicitlyWaitTimeOut = timeOut;
+		implicitlyWaitTimeUnit = timeUnit;
+		if (temporaryImplicitlyWaits.isEmpty()) {
+			return applyImplicitlyWait(timeOut, timeUnit);
+		}
+		return this;
+	}
+
+	/**
+	 * Performs the action with the given implicitly wait time out. After the
+	 * action the previous temporary time out or the latest time out which was
+	 * set by {@link #implicitlyWait(long, TimeUnit)} is in effect again. It
+	 * is sent by {@link #ensureImplicitlyWait()} when it is needed. Calls can
+	 * be nested. Commands are sent only when values are different.
+	 *
+	 * @param timeOut is the temporary time out
+	 * @param timeUnit is the {@link TimeUnit} of the temporary time out
+	 * @param action is the action which should be performed
+	 * @return the result of the action
+	 */
+	public <T> T withImplicitWait(long timeOut, TimeUnit timeUnit,
+			Callable<T> action) {
+		synchronized (this) {
+			applyPendingConfiguration();
+			temporaryImplicitlyWaits.push(new ImplicitWait(timeOut, timeUnit));
+			applyImplicitlyWait(timeOut, timeUnit);
+		}
+		try {
+			return action.call();
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new RuntimeException(e);
 		} finally {
-			if (timeOutsAreSetWell) {
-				implicitlyWaitTimeOut = timeOut;
-				implicitlyWaitTimeUnit = timeUnit;
+			synchronized (this) {
+				temporaryImplicitlyWaits.pop();
 			}
 		}
 	}
 
 	@Override
-	public Timeouts pageLoadTimeout(long timeOut, TimeUnit timeUnit) {
+	public synchronized Timeouts pageLoadTimeout(long timeOut, TimeUnit timeUnit) {
 		boolean timeOutsAreSetWell = true;
 		try {
 			return driver.manage().timeouts()
@@ -103,9 +241,35 @@ public abstract class TimeOut extends WebdriverComponent implements Timeouts,
 		}
 	}
 
+	/**
+	 * Remembers the {@link Configuration} which should be applied. Nothing is
+	 * sent to the {@link WebDriver} here, so it can be invoked by any thread.
+	 * Time outs are set by {@link #applyPendingConfiguration()}, by
+	 * {@link #ensureImplicitlyWait()} or when the implicitly wait time out is
+	 * changed next time
+	 *
+	 * @param config is the reloaded {@link Configuration}
+	 */
+	public synchronized void resetLaterAccordingTo(Configuration config) {
+		pendingConfiguration = config;
+	}
+
+	/**
+	 * Sets time outs according to the {@link Configuration} which was
+	 * remembered by {@link #resetLaterAccordingTo(Configuration)}. It should
+	 * be invoked by the thread which uses the session
+	 */
+	public synchronized void applyPendingConfiguration() {
+		Configuration config = pendingConfiguration;
+		if (config != null) {
+			resetAccordingTo(config);
+		}
+	}
+
 	// set values of time outs according to configuration
 	@Override
 	public synchronized void resetAccordingTo(Configuration config) {
+		pendingConfiguration = null;
 		TimeUnit settingTimeUnit = config.getSection(WebDriverTimeOuts.class)
 				.getTimeUnit();
 		if (settingTimeUnit == null)
@@ -113,19 +277,25 @@ public abstract class TimeOut extends WebdriverComponent implements Timeouts,
 
 		Long timeOut = getTimeOutValue(config.getSection(
 				WebDriverTimeOuts.class).getImplicitlyWaitTimeOut());
-		implicitlyWait(timeOut, settingTimeUnit);
+		if (isChanged(implicitlyWaitTimeOut, implicitlyWaitTimeUnit, timeOut,
+				settingTimeUnit))
+			implicitlyWait(timeOut, settingTimeUnit);
 
 		timeOut = getTimeOutValue(config.getSection(WebDriverTimeOuts.class)
 				.getScriptTimeOut());
-		setScriptTimeout(timeOut, settingTimeUnit);
+		if (isChanged(scriptTimeOut, scriptTimeUnit, timeOut, settingTimeUnit))
+			setScriptTimeout(timeOut, settingTimeUnit);
 
 		timeOut = getTimeOutValue(config.getSection(WebDriverTimeOuts.class)
 				.getLoadTimeout());
-		pageLoadTimeout(timeOut, settingTimeUnit);
+		if (isChanged(pageLoadTimeOut, pageLoadTimeUnit, timeOut,
+				settingTimeUnit))
+			pageLoadTimeout(timeOut, settingTimeUnit);
+		isConfigured = true;
 	}
 
 	@Override
-	public Timeouts setScriptTimeout(long timeOut, TimeUnit timeUnit) {
+	public synchronized Timeouts setScriptTimeout(long timeOut, TimeUnit timeUnit) {
 		boolean timeOutsAreSetWell = true;
 		try {
 			return driver.manage().timeouts()
@@ -1,19 +1,27 @@
 package com.github.arachnidium.core.highlighting;
 
 import java.awt.Color;
+import java.awt.Rectangle;
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
 
 import com.github.arachnidium.util.configuration.Configuration;
 import com.github.arachnidium.util.configuration.interfaces.IConfigurable;
+import com.github.arachnidium.util.logging.ImageDifference;
 import com.github.arachnidium.util.logging.Log;
 import com.github.arachnidium.util.logging.Photographer;
 import com.github.arachnidium.util.logging.eAvailableLevels;
 import com.github.arachnidium.util.logging.eLogColors;
+import org.openqa.selenium.HasCapabilities;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsDriver;
 import org.openqa.selenium.internal.WrapsElement;
+import org.openqa.selenium.remote.BrowserType;
 
 import com.github.arachnidium.core.settings.ScreenShots;
 
@@ -26,16 +34,68 @@ public class WebElementHighLighter implements IConfigurable,
 	// is this doing screenshots
 	private boolean toDoScreenShots;
 	private final boolean isDoingScreenShotsByDefault = true;
+	// are screenshots cropped to the highlighted element
+	private boolean toCropScreenShots;
+	private int croppingMargin;
+	// the rectangle of the element is returned with the new border.
+	// Coordinates are converted to pixels of the screenshot. They are relative
+	// to the viewport. Scroll offsets of the page are returned too
+	private static final String RECT_SCRIPT = "var rect = arguments[0].getBoundingClientRect();"
+			+ "var ratio = window.devicePixelRatio || 1;"
+			+ "return [rect.left * ratio, rect.top * ratio, rect.width * ratio, rect.height * ratio,"
+			+ "window.pageXOffset * ratio, window.pageYOffset * ratio];";
+	// these browsers take screenshots of the whole page instead of the viewport
+	private static final List<String> BROWSERS_OF_WHOLE_PAGE_SCREENSHOTS = Arrays
+			.asList(BrowserType.FIREFOX, BrowserType.IE);
 
-	private void execDecorativeScript(JavascriptExecutor scriptExecutor,
+	private Object execDecorativeScript(JavascriptExecutor scriptExecutor,
 			WebElement element, String script) throws InterruptedException {
+		Object result;
 		try {
-			scriptExecutor.executeScript(script, element);
+			result = scriptExecutor.executeScript(script, element);
 		} catch (ClassCastException e) {
-			scriptExecutor.executeScript(script,
+			result = scriptExecutor.executeScript(script,
 					((WrapsElement) element).getWrappedElement());
 		}
 		Thread.sleep(100);
+		return result;
+	}
+
+	private static boolean isWholePageTaken(WebDriver driver) {
+		WebDriver unwrapped = driver;
+		while (!(unwrapped instanceof HasCapabilities)
+				&& unwrapped instanceof WrapsDriver) {
+			unwrapped = ((WrapsDriver) unwrapped).getWrappedDriver();
+		}
+		if (!(unwrapped instanceof HasCapabilities)) {
+			return false;
+		}
+		return BROWSERS_OF_WHOLE_PAGE_SCREENSHOTS
+				.contains(((HasCapabilities) unwrapped).getCapabilities()
+						.getBrowserName());
+	}
+
+	// the area of the element on the screenshot which is taken by the driver
+	private Rectangle getArea(WebDriver driver, Object rect) {
+		if (!(rect instanceof List<?>) || ((List<?>) rect).size() != 6) {
+			return null;
+		}
+		List<?> values = (List<?>) rect;
+		for (Object value : values) {
+			if (!(value instanceof Number)) {
+				return null;
+			}
+		}
+		int x = ((Number) values.get(0)).intValue();
+		int y = ((Number) values.get(1)).intValue();
+		int width = ((Number) values.get(2)).intValue();
+		int height = ((Number) values.get(3)).intValue();
+		if (isWholePageTaken(driver)) {
+			x += ((Number) values.get(4)).intValue();
+			y += ((Number) values.get(5)).intValue();
+		}
+		return new Rectangle(x - croppingMargin, y - croppingMargin, width
+				+ 2 * croppingMargin, height + 2 * croppingMargin);
 	}
 
 	private String getOriginalStyle(WebElement elementToBeHiglighted) {
@@ -154,15 +214,48 @@ public class WebElementHighLighter implements IConfigurable,
 				eAvailableLevels.WARN, comment);
 	}
 
+	/**
+	 * Highlights the element and compares its picture with the baseline.
+	 * The picture is not written anywhere. The area of the picture is limited
+	 * by the element and the "croppingMargin" setting.
+	 * 
+	 * @param driver an instance of {@link WebDriver}
+	 * @param webElement is the element which should be checked
+	 * @param baseline is the file of the expected picture of the element
+	 * @return the {@link ImageDifference}
+	 */
+	public synchronized ImageDifference highlightAndCompare(WebDriver driver,
+			WebElement webElement, File baseline) {
+		Color color = eLogColors.DEBUGCOLOR.getStateColor();
+		String originalStyle = getOriginalStyle(webElement);
+		Object rect = setNewColor((JavascriptExecutor) driver, webElement,
+				"4px solid rgb(" + Integer.toString(color.getRed()) + ","
+						+ Integer.toString(color.getGreen()) + ","
+						+ Integer.toString(color.getBlue()) + ")");
+		try {
+			ImageDifference difference = Photographer.compareWithBaseline(
+					driver, getArea(driver, rect), baseline);
+			Log.debug(() -> "The element was compared with "
+					+ baseline.getAbsolutePath() + ": " + difference);
+			return difference;
+		} finally {
+			setStyle((JavascriptExecutor) driver, webElement, originalStyle);
+		}
+	}
+
 	private void highlightelement(WebDriver driver, WebElement webElement,
 			Color color, eAvailableLevels LogLevel, String comment) {
 		try {
 			String originalStyle = getOriginalStyle(webElement);
-			setNewColor((JavascriptExecutor) driver, webElement,
+			Object rect = setNewColor((JavascriptExecutor) driver, webElement,
 					"4px solid rgb(" + Integer.toString(color.getRed()) + ","
 							+ Integer.toString(color.getGreen()) + ","
 							+ Integer.toString(color.getBlue()) + ")");
-			if (toDoScreenShots)
+			Rectangle area = toCropScreenShots ? getArea(driver, rect) : null;
+			if (toDoScreenShots && area != null)
+				Photographer.takeAPictureOfAnArea(driver, LogLevel, comment,
+						area);
+			else if (toDoScreenShots)
 				Photographer.takeAPictureForLog(driver, LogLevel, comment);
 			else
 				Log.log(LogLevel, comment);
@@ -185,14 +278,20 @@ public class WebElementHighLighter implements IConfigurable,
 			this.toDoScreenShots = isDoingScreenShotsByDefault;
 		else
 			this.toDoScreenShots = toDoScreenShots;
+		ScreenShots screenShots = config.getSection(ScreenShots.class);
+		toCropScreenShots = screenShots.getToCropScreenShotsOfHighLightedElements();
+		croppingMargin = screenShots.getCroppingMargin();
 	}
 
-	private void setNewColor(JavascriptExecutor scriptExecutor,
+	// returns the rectangle of the element
+	private Object setNewColor(JavascriptExecutor scriptExecutor,
 			WebElement elementToBeHiglighted, String colorExpression) {
 		try {
-			execDecorativeScript(scriptExecutor, elementToBeHiglighted,
-					"arguments[0].style.border = '" + colorExpression + "'");
+			return execDecorativeScript(scriptExecutor, elementToBeHiglighted,
+					"arguments[0].style.border = '" + colorExpression + "';"
+							+ RECT_SCRIPT);
 		} catch (InterruptedException | StaleElementReferenceException e) {
+			return null;
 		}
 	}
 
@@ -1,10 +1,12 @@
 package com.github.arachnidium.core.settings;
 
 import java.io.File;
-import java.lang.reflect.Field;
 import java.util.Arrays;
-import java.util.List;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 
 import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.HasCapabilities;
@@ -48,6 +50,10 @@ import com.github.arachnidium.util.configuration.Group;
  * }<br/>
  * ...<br/>
  * </p>
+ * Capabilities are built once for the same values of settings.
+ * Built capabilities are not changed. {@link #getCapabilities()} returns
+ * a copy of them.
+ * 
  * @see Configuration
  * @see Platform 
  * @see Capabilities
@@ -55,13 +61,19 @@ import com.github.arachnidium.util.configuration.Group;
 @Group(settingGroup = "DesiredCapabilities")
 public class CapabilitySettings extends AbstractConfigurationAccessHelper
 implements HasCapabilities, Capabilities {
-	private final DesiredCapabilities builtCapabilities = new DesiredCapabilities();
-	private final String appCapability = ExtendedCapabilityType.APP;
-	private final String proxyCapability = ExtendedCapabilityType.PROXY;
+	private static final String appCapability = ExtendedCapabilityType.APP;
+	private static final String proxyCapability = ExtendedCapabilityType.PROXY;
+	// names of capabilities are found once
+	private static final Set<String> capabilityNames = findCapabilityNames();
+	// built capabilities are shared by helpers which have the same settings.
+	// Templates are not held when settings are not used anymore
+	private static final Map<Map<String, Object>, DesiredCapabilities> templates = Collections
+			.synchronizedMap(new WeakHashMap<Map<String, Object>, DesiredCapabilities>());
+	private final DesiredCapabilities builtCapabilities;
 
 	protected CapabilitySettings(Configuration configuration, String group) {
 		super(configuration, group);
-		buildCapabilities();
+		builtCapabilities = getTemplate();
 	}
 
 	/**
@@ -72,25 +84,34 @@ implements HasCapabilities, Capabilities {
 		return builtCapabilities.asMap();
 	}
 
-	private void buildCapabilities() {
-		List<Field> capabilities = Arrays.asList(ExtendedCapabilityType.class.getFields());
-		ExtendedCapabilityType ecp = new ExtendedCapabilityType() {
-		};
-		
-		capabilities.forEach((capability) -> {
-			String capName = null;
-			try {
-				capName = capability.get(ecp).toString();
-			} catch (Exception e) {
-				throw new RuntimeException(e);
-			}
-			Object value = getSettingValue(capName);
-			if (value != null){
-				builtCapabilities.setCapability(capName, value);
+	private static Set<String> findCapabilityNames() {
+		Set<String> result = new HashSet<>();
+		Arrays.asList(ExtendedCapabilityType.class.getFields()).forEach(
+				(capability) -> {
+					try {
+						result.add(capability.get(null).toString());
+					} catch (Exception e) {
+						throw new RuntimeException(e);
+					}
+				});
+		return Collections.unmodifiableSet(result);
+	}
+
+	private DesiredCapabilities getTemplate() {
+		return templates.computeIfAbsent(getSettings(),
+				CapabilitySettings::buildCapabilities);
+	}
+
+	private static DesiredCapabilities buildCapabilities(
+			Map<String, Object> values) {
+		DesiredCapabilities capabilities = new DesiredCapabilities();
+		values.forEach((capName, value) -> {
+			if (value != null && capabilityNames.contains(capName)){
+				capabilities.setCapability(capName, value);
 			}
 		});
-
-		transformCapabilities();
+		transformCapabilities(capabilities);
+		return capabilities;
 	}
 
 	/**
@@ -102,11 +123,13 @@ implements HasCapabilities, Capabilities {
 	}
 
 	/**
+	 * @return the copy of built capabilities. It can be changed.
+	 * 
 	 * @see org.openqa.selenium.HasCapabilities#getCapabilities()
 	 */
 	@Override
 	public Capabilities getCapabilities() {
-		return builtCapabilities;
+		return new DesiredCapabilities(builtCapabilities);
 	}
 
 	/**
@@ -151,9 +174,9 @@ implements HasCapabilities, Capabilities {
 
 	// transforms capabilities values if they need to be changed
 	//I think it is not final implementation 
-	private void transformCapabilities() {
+	private static void transformCapabilities(DesiredCapabilities builtCapabilities) {
 		// transforms relative path to application into absolute
-		Object pathToApp = getCapability(appCapability);
+		Object pathToApp = builtCapabilities.getCapability(appCapability);
 		if (pathToApp != null) {
 			File app = new File(String.valueOf(pathToApp));
 			builtCapabilities.setCapability(appCapability,
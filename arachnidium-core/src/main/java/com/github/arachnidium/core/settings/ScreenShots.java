@@ -12,6 +12,7 @@ import org.openqa.selenium.WebDriver.Window;
  * - to take screenshots when element is highlighted<br/>
  * - to take screenshots when new browser {@link Window} or context (see {@link ContextAware})<br/>
  * is found<br/> 
+ * - to crop screenshots of highlighted elements<br/>
  * <br/> 
  * Specification:<br/> 
  * 
@@ -26,6 +27,14 @@ import org.openqa.selenium.WebDriver.Window;
  *&nbsp;&nbsp;"toTakeScreenShotsOfNewHandles":{<br/>
  *&nbsp;&nbsp;&nbsp;&nbsp;"type":"BOOL",<br/>
  *&nbsp;&nbsp;&nbsp;&nbsp;"value":"flag value"<br/>           
+ *&nbsp;&nbsp;},<br/>
+ *&nbsp;&nbsp;"toCropScreenShotsOfHighLightedElements":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"BOOL",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"flag value"<br/>           
+ *&nbsp;&nbsp;},<br/>
+ *&nbsp;&nbsp;"croppingMargin":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"INT",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"margin around the element (pixels)"<br/>           
  *&nbsp;&nbsp;}<br/>              
  *}<br/>
  *...<br/>
@@ -37,6 +46,7 @@ import org.openqa.selenium.WebDriver.Window;
 public class ScreenShots extends AbstractConfigurationAccessHelper {
 	// screenshot group
 	private final Boolean DEFAULT_VALUE = false;
+	private final Integer DEFAULT_MARGIN = 50;
 
 	protected ScreenShots(Configuration configuration, String group) {
 		super(configuration, group);
@@ -65,4 +75,26 @@ public class ScreenShots extends AbstractConfigurationAccessHelper {
 		return returnExplicitOrDefaultValue(getSetting());
 	}
 
+	/**
+	 * @return {@link Boolean} value of the flag "toCropScreenShotsOfHighLightedElements"
+	 */
+	@Setting(setting = "toCropScreenShotsOfHighLightedElements")
+	public Boolean getToCropScreenShotsOfHighLightedElements() {
+		return returnExplicitOrDefaultValue(getSetting());
+	}
+
+	/**
+	 * @return the margin (pixels) around the highlighted element 
+	 * which is left when the screenshot is cropped. Default value is
+	 * 50
+	 */
+	@Setting(setting = "croppingMargin")
+	public Integer getCroppingMargin() {
+		Integer margin = getSetting();
+		if (margin == null || margin < 0) {
+			return DEFAULT_MARGIN;
+		}
+		return margin;
+	}
+
 }
@@ -3,6 +3,8 @@ package com.github.arachnidium.thucydides.reporting;
 import java.io.File;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.logging.Level;
 
 import com.github.arachnidium.util.logging.ILogConverter;
@@ -29,6 +31,9 @@ public class ArachnidiumAndThucydidesStepListener extends BaseStepListener imple
 	
 	private static final File outputDirectory = new SystemPropertiesConfiguration(
 			new SystemEnvironmentVariables()).getOutputDirectory();
+	// log messages can be converted by the thread of the asynchronous
+	// logging. They are applied to steps by the thread of the test
+	private final Queue<LogRecWithAttach> logRecords = new ConcurrentLinkedQueue<>();
 
 	public ArachnidiumAndThucydidesStepListener() {
 		super(outputDirectory);
@@ -75,6 +80,9 @@ public class ArachnidiumAndThucydidesStepListener extends BaseStepListener imple
 	}
 
 	public void testFinished(TestOutcome result) {
+		// pictures of the failed test are stored by testFailed
+		Photographer.discardRecordedPictures();
+		applyLogRecords();
 		sync(result);
 		super.testFinished(result);
 	}
@@ -84,6 +92,7 @@ public class ArachnidiumAndThucydidesStepListener extends BaseStepListener imple
 	}
 
 	public void stepStarted(ExecutedStepDescription description) {
+		applyLogRecords();
 		super.stepStarted(description);
 	}
 
@@ -92,10 +101,14 @@ public class ArachnidiumAndThucydidesStepListener extends BaseStepListener imple
 	}
 
 	public void stepFailed(StepFailure failure) {
+		Photographer.saveRecordedPictures();
+		applyLogRecords();
 		super.stepFailed(failure);
 	}
 
 	public void lastStepFailed(StepFailure failure) {
+		Photographer.saveRecordedPictures();
+		applyLogRecords();
 		super.stepFailed(failure);
 	}
 
@@ -112,6 +125,7 @@ public class ArachnidiumAndThucydidesStepListener extends BaseStepListener imple
 	}
 
 	public void stepFinished() {
+		applyLogRecords();
 		TestStep step = getCurrentTestOutcome().currentStep();
 		if ((step.getResult() != TestResult.ERROR)
 				& (step.getResult() != TestResult.FAILURE)) {
@@ -121,6 +135,8 @@ public class ArachnidiumAndThucydidesStepListener extends BaseStepListener imple
 	}
 
 	public void testFailed(TestOutcome testOutcome, Throwable cause) {
+		Photographer.saveRecordedPictures();
+		applyLogRecords();
 		sync(testOutcome);
 		super.testFailed(testOutcome, cause);
 	}
@@ -152,7 +168,23 @@ public class ArachnidiumAndThucydidesStepListener extends BaseStepListener imple
 		super.assumptionViolated(message);
 	}
 
+	// it can be invoked by the thread of the asynchronous logging. Messages
+	// are applied to the current step later
 	public void convert(LogRecWithAttach arg0) {
+		logRecords.offer(arg0);
+	}
+
+	// applies converted messages to the current step. It is invoked by the
+	// thread of the test
+	private void applyLogRecords() {
+		Log.flush();
+		LogRecWithAttach record;
+		while ((record = logRecords.poll()) != null) {
+			apply(record);
+		}
+	}
+
+	private void apply(LogRecWithAttach arg0) {
 		File screenShot = arg0.getAttachedFile();
 		TestStep step = getCurrentTestOutcome().currentStep();
 		if (screenShot != null) { // is it picture
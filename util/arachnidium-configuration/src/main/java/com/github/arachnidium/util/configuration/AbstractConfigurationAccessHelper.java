@@ -4,6 +4,7 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.Map;
 
 /**
  * Subclasses of this should make access to
@@ -49,6 +50,16 @@ public abstract class AbstractConfigurationAccessHelper{
 		return configuration.getSettingValue(DESIRED_GROUP, settingName);
 	}
 	
+	/**
+	 * This method returns all settings of the group
+	 * 
+	 * @return unmodifiable map where keys are setting names. The same map
+	 * is returned by helpers of configurations which have the same settings
+	 */
+	protected final Map<String, Object> getSettings() {
+		return configuration.getUnmodifiableSettingGroup(DESIRED_GROUP);
+	}
+	
 	/**
 	 * This method is used by CGLIB tools
 	 * and returns any value when a method which
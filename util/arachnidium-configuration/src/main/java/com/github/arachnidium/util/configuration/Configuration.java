@@ -21,16 +21,26 @@
 package com.github.arachnidium.util.configuration;
 
 import java.io.File;
-import java.io.FileReader;
-import java.io.FilenameFilter;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import net.sf.cglib.proxy.Callback;
 import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.Factory;
 
-import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
+import com.github.arachnidium.util.configuration.interfaces.IConfigurable;
 
 /**
  * Stores settings read from JSON file.
@@ -53,102 +63,153 @@ import org.json.simple.parser.JSONParser;
  * </p> 
  */
 public class Configuration {
-	public static Configuration get(String filePath) {
-		Callback interceptor = new ConfigurationInterceptor();
-
-		Enhancer enhancer = new Enhancer();
-		enhancer.setCallback(interceptor);
-		enhancer.setSuperclass(Configuration.class);
-
-		return (Configuration) enhancer.create(new Class[] { String.class },
-				new Object[] { filePath });
-	}
+	// this module can't use Log. Records of this logger are
+	// handled as other records of the run
+	private static final Logger logger = Logger.getLogger(Configuration.class
+			.getName());
 
-	private static String getPathToDefault(String startPath) {
-		// attempt to find configuration in the specified directory
-		File defaultConfig = new File(startPath);
-		File list[] = defaultConfig
-				.listFiles((FilenameFilter) (dir, name) -> name
-						.endsWith(commonFileName));
-
-		if (list.length > 0)
-			return list[0].getPath();
-
-		if (list.length == 0) {
-			File inner[] = defaultConfig.listFiles();
-			String result = null;
-			for (File element : inner) {
-				if (element.isDirectory())
-					result = getPathToDefault(element.getPath());
-				if (result != null)
-					return result;
-			}
-		}
-		return null;
+	/**
+	 * @param filePath is the path to the JSON file
+	 * @return the {@link Configuration} which contains settings of
+	 * the given file merged over settings {@link #byDefault}. The file is
+	 * parsed once while its modification time and size are the same.
+	 * Parsed settings are immutable and they are shared by
+	 * configurations.
+	 */
+	public static Configuration get(String filePath) {
+		Configuration configuration = new Configuration(filePath);
+		if (Boolean.getBoolean(ConfigurationWatcher.WATCH_PROPERTY))
+			configuration.watch();
+		return configuration;
 	}
 
 	private final static String commonFileName = "settings.json"; // default
 																	// settings
 	/**
 	 * The default settings that are read 
-	 * from <code>settings.json</code> located 
-	 * in <code>.classPath</code> folder or subfolders
+	 * from <code>settings.json</code>. The file is defined by the 
+	 * <code>arachnidium.settings</code> system property or it is the resource
+	 * of the class path. Otherwise it is looked for in the working
+	 * directory and subfolders. The depth of this search is limited and some 
+	 * folders are ignored
+	 * 
+	 * @see SettingsLocator
 	 */
-	public final static Configuration byDefault = get(getPathToDefault("."));
+	public final static Configuration byDefault = get(new SettingsLocator(
+			commonFileName).locate());
+
+	// constructors of generated accessors. They are kept by classes,
+	// so class loaders are not held
+	private static final ClassValue<Optional<Constructor<?>>> accessorConstructors = new ClassValue<Optional<Constructor<?>>>() {
+		@Override
+		protected Optional<Constructor<?>> computeValue(Class<?> c) {
+			try {
+				Class<?> accessorClass = Class.forName(
+						SettingAccessorProcessor.getAccessorName(c), true,
+						c.getClassLoader());
+				if (!c.isAssignableFrom(accessorClass))
+					return Optional.empty();
+				Constructor<?> constructor = accessorClass
+						.getDeclaredConstructor(Configuration.class,
+								String.class);
+				constructor.setAccessible(true);
+				return Optional.of(constructor);
+			} catch (ClassNotFoundException | NoSuchMethodException e) {
+				return Optional.empty();
+			}
+		}
+	};
 
-	private static final String typeTag = "type";
-	private static final String requiredClassTag = "class";
-	private static final String valueTag = "value";
+	private final File settingFile;
+	// settings of the file merged over default settings. They are replaced
+	// when the file is read again
+	private volatile ConfigurationSnapshot snapshot;
 
-	private final HashMap<String, HashMap<String, Object>> mappedSettings = new HashMap<String, HashMap<String, Object>>();
+	// helpers are created again when settings are replaced
+	private volatile ConcurrentMap<Class<? extends AbstractConfigurationAccessHelper>, AbstractConfigurationAccessHelper> initedHelpers = new ConcurrentHashMap<>();
+	// instances of generated helper classes. They create new helpers
+	// without Enhancer. Each prototype refers to this configuration. So
+	// they are not shared by configurations
+	private final ConcurrentMap<Class<? extends AbstractConfigurationAccessHelper>, Factory> helperPrototypes = new ConcurrentHashMap<>();
 
-	private final HashMap<Class<? extends AbstractConfigurationAccessHelper>, AbstractConfigurationAccessHelper> initedHelpers = new HashMap<>();
+	private final Set<IConfigurable> listeners = Collections
+			.newSetFromMap(new WeakHashMap<IConfigurable, Boolean>());
 
 	protected Configuration(String filePath) {
 		super();
-		parseSettings(String.valueOf(filePath));
+		settingFile = new File(String.valueOf(filePath));
+		snapshot = ConfigurationSnapshot.read(settingFile).mergedOver(
+				getDefaults());
+	}
+
+	// byDefault is null when default settings are being read
+	private ConfigurationSnapshot getDefaults() {
+		return byDefault != null && byDefault != this ? byDefault.snapshot
+				: null;
+	}
+
+	/**
+	 * Starts watching of the file. When the file is changed settings are
+	 * read again and listeners are notified. Watched configurations are
+	 * read again when the file of default settings is changed and it
+	 * is watched too.<br/>
+	 * All configurations are watched when the
+	 * <code>arachnidium.settings.watch</code> system property is
+	 * <code>true</code>
+	 * 
+	 * @return this configuration
+	 * @see #addListener(IConfigurable)
+	 */
+	public Configuration watch() {
+		ConfigurationWatcher.watch(this, settingFile);
+		return this;
 	}
 
 	/**
-	 *  parsing of each one setting
+	 * Adds the listener which is notified when settings are read again.
+	 * Listeners are weakly referenced.
+	 * 
+	 * @param listener is an object which applies settings
 	 */
-	private HashMap<String, Object> getParsedGroup(JSONObject jsonObject) {
-		HashMap<String, Object> result = new HashMap<>();
-		@SuppressWarnings("unchecked")
-		Set<String> keys = jsonObject.keySet();
+	public void addListener(IConfigurable listener) {
+		synchronized (listeners) {
+			listeners.add(listener);
+		}
+	}
+
+	/**
+	 * Removes the listener
+	 * 
+	 * @param listener is an object which applies settings
+	 */
+	public void removeListener(IConfigurable listener) {
+		synchronized (listeners) {
+			listeners.remove(listener);
+		}
+	}
 
-		keys.forEach((key) -> {
-			JSONObject value = (JSONObject) jsonObject.get(key);
-			String type = (String) value.get(typeTag);
+	/**
+	 * Reads the file again. New settings replace previous ones atomically.
+	 * Then listeners are notified.
+	 */
+	synchronized void reload() {
+		snapshot = ConfigurationSnapshot.reread(settingFile).mergedOver(
+				getDefaults());
+		initedHelpers = new ConcurrentHashMap<>();
 
-			EAvailableDataTypes requiredType = null;
+		List<IConfigurable> toNotify;
+		synchronized (listeners) {
+			toNotify = new ArrayList<>(listeners);
+		}
+		for (IConfigurable listener : toNotify) {
 			try {
-				requiredType = EAvailableDataTypes.valueOf(type);
-			} catch (IllegalArgumentException | NullPointerException e) {
-				throw new RuntimeException(
-						"Type specification that is not supported! Specification is "
-								+ String.valueOf(type)
-								+ ". "
-								+ " STRING, BOOL, LONG, FLOAT, INT, ENUM are suppurted. Setting name is "
-								+ key, e);
+				listener.resetAccordingTo(this);
+			} catch (RuntimeException e) {
+				// other listeners should be notified
+				logger.log(Level.WARNING, "Settings of " + settingFile
+						+ " can't be applied to " + listener, e);
 			}
-			
-			String className   =  (String) value.get(requiredClassTag);
-			Object returnValue = null;
-			String strValue = (String) value.get(valueTag);
-
-			if ("".equals(strValue) || strValue == null)
-				result.put(key, returnValue);
-			else
-				if ("".equals(className) || className == null) {
-					result.put(key, requiredType.getValue(String.valueOf(strValue)));
-				}else{
-					result.put(key, requiredType.getValue(String.valueOf(className), 
-							String.valueOf(strValue)));
-				}
-					
-		});
-		return result;
+		}
 	}
 
 	/**
@@ -163,7 +224,12 @@ public class Configuration {
 	 * should have a constructor like this: new
 	 *         Helper({@link{Configuration} configuration, {@link String} desiredSettingGroup).
 	 * Also, required class should be annotated by {@link Group} annotation. {@link IllegalArgumentException} 
-	 * is thrown otherwise.      
+	 * is thrown otherwise. Helpers are created once and they can be used by
+	 * parallel threads. Values of methods annotated by
+	 * {@link AbstractConfigurationAccessHelper.Setting} are calculated once.
+	 * If {@link SettingAccessorProcessor} has generated the accessor of the
+	 * required class then the accessor is returned. A CGLIB proxy is
+	 * returned otherwise.
 	 *               
      * @param requiredClass that extends {@link AbstractConfigurationAccessHelper} 
 	 * @return instance of class specified by <code>requiredClass</code> parameter
@@ -171,27 +237,54 @@ public class Configuration {
 	@SuppressWarnings("unchecked")
 	public <T extends AbstractConfigurationAccessHelper> T getSection(
 			Class<T> requiredClass) throws IllegalArgumentException {
-		T helper = (T) initedHelpers.get(requiredClass);
+		ConcurrentMap<Class<? extends AbstractConfigurationAccessHelper>, AbstractConfigurationAccessHelper> helpers = initedHelpers;
+		T helper = (T) helpers.get(requiredClass);
 		if (helper != null)
 			return helper;
+
+		if (!requiredClass.isAnnotationPresent(Group.class)){
+			throw new IllegalArgumentException("Required class " + requiredClass.getName() + " should be annotated by "
+					+ " @Group annotation!");
+		}
 		
 		Callback interceptor = new HelperInterceptor();
+		Class<?>[] types = new Class[] {Configuration.class ,String.class};
+		Object[] values = new Object[] { this, requiredClass.getAnnotation(Group.class).settingGroup()};
 
-		Enhancer enhancer = new Enhancer();
-		enhancer.setCallback(interceptor);
-		enhancer.setSuperclass(requiredClass);
-
-		T result = null;
-		if (requiredClass.isAnnotationPresent(Group.class)){
-			result = (T) enhancer.create(new Class[] {Configuration.class ,String.class},
-					new Object[] { this, requiredClass.getAnnotation(Group.class).settingGroup()});
+		T result;
+		Constructor<?> accessor = getAccessorConstructor(requiredClass);
+		Factory prototype = helperPrototypes.get(requiredClass);
+		if (accessor != null){
+			// values are calculated by the generated class
+			try {
+				result = (T) accessor.newInstance(values);
+			} catch (InvocationTargetException e) {
+				throw new RuntimeException(e.getTargetException());
+			} catch (ReflectiveOperationException e) {
+				throw new RuntimeException(e);
+			}
+		}
+		else if (prototype != null){
+			// the generated class is reused
+			result = (T) prototype.newInstance(types, values, new Callback[] {interceptor});
 		}
 		else {
-			throw new IllegalArgumentException("Required class " + requiredClass.getClass().getName() + " should be annotated by "
-					+ " @Group annotation!");
+			Enhancer enhancer = new Enhancer();
+			enhancer.setCallback(interceptor);
+			enhancer.setSuperclass(requiredClass);
+			result = (T) enhancer.create(types, values);
+			helperPrototypes.putIfAbsent(requiredClass, (Factory) result);
 		}
-		initedHelpers.put(requiredClass, result);
-		return result;		
+		// parallel threads get the same helper
+		T previous = (T) helpers.putIfAbsent(requiredClass, result);
+		return previous != null ? previous : result;
+	}
+
+	// the constructor of the class which is generated by
+	// SettingAccessorProcessor or null if there is no such class
+	private static Constructor<?> getAccessorConstructor(
+			Class<? extends AbstractConfigurationAccessHelper> requiredClass) {
+		return accessorConstructors.get(requiredClass).orElse(null);
 	}
 
 	/**
@@ -217,9 +310,21 @@ public class Configuration {
 	 * value is "some value" cast to "Type you need"
 	 */
 	public HashMap<String, Object> getSettingGroup(String groupName) {
-		return mappedSettings.get(groupName);
+		Map<String, Object> group = snapshot.getGroup(groupName);
+		if (group == null)
+			return null;
+		// settings are immutable. So the copy is returned
+		return new HashMap<>(group);
 	}
 	
+	// unmodifiable settings of the group. They are not copied
+	Map<String, Object> getUnmodifiableSettingGroup(String groupName) {
+		Map<String, Object> group = snapshot.getGroup(groupName);
+		if (group == null)
+			return Collections.emptyMap();
+		return group;
+	}
+
 	/**
 	 * Returns an object defined in JSON setting file
 	 * <p>
@@ -241,45 +346,12 @@ public class Configuration {
 	 * @param settingName is "settingName1"
 	 * @return "some value" cast to "Type you need"
 	 */
-	@SuppressWarnings("unchecked")
 	public <T extends Object> T getSettingValue(String groupName, String settingName) {
-		HashMap<String, Object> group = getSettingGroup(groupName);
-		// if there is no group with specified name
-		if (group == null)
-			return null;
-		return (T) group.get(settingName);
+		return snapshot.getValue(groupName, settingName);
 	}
 
-	/**
-	 *  parsing of json configuration
-	 * @param filePath - path to explicitly given JSON file 
-	 */
-	private void parseSettings(String filePath) {
-
-		File settingFile = new File(filePath);
-		if (!settingFile.exists())
-			return;
-		try {
-			JSONObject jsonObject = (JSONObject) new JSONParser()
-			.parse(new FileReader(settingFile));
-			@SuppressWarnings("unchecked")
-			Set<String> keys = jsonObject.keySet(); // there are groups
-			keys.forEach((key) -> mappedSettings.put(key,
-					getParsedGroup((JSONObject) jsonObject.get(key))));
-		} catch (Exception e) {
-			throw new RuntimeException(
-					"Configuration building has failed! Please, check it. You can look at SAMPLE_SETTING.json for verifying. ",
-					e);
-		}
-	}
-	
 	@Override
 	public String toString(){
-		String result = "";
-		Set<String> keys = mappedSettings.keySet();
-		for (String key: keys){
-			result = result + key + ": " + mappedSettings.get(key).toString() + " ; ";
-		}
-		return result;
+		return snapshot.toString();
 	}
 }
\ No newline at end of file
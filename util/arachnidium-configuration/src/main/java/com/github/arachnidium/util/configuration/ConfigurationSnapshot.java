@@ -0,0 +1,265 @@
+package com.github.arachnidium.util.configuration;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+
+/**
+ * Immutable settings of a {@link Configuration}. Values are converted
+ * to required types when the file is parsed. Settings of the file can be
+ * merged over default settings once. So reading of a setting is a lookup
+ * of the group and the lookup of the value.<br/>
+ * <br/>
+ * Parsed files are cached by the process. A file is parsed again
+ * only when its modification time or size is changed. The compiled
+ * form of the file is read instead of JSON when it is actual.
+ * 
+ * @see SettingsCompiler
+ */
+final class ConfigurationSnapshot {
+	static final ConfigurationSnapshot EMPTY = new ConfigurationSnapshot(
+			Collections.<String, Map<String, Object>> emptyMap());
+
+	private static final String typeTag = "type";
+	private static final String requiredClassTag = "class";
+	private static final String valueTag = "value";
+
+	// canonical path -> the parsed file
+	private static final ConcurrentMap<String, ParsedFile> parsedFiles = new ConcurrentHashMap<>();
+
+	private static final class ParsedFile {
+		private final long lastModified;
+		private final long length;
+		private final ConfigurationSnapshot snapshot;
+
+		private ParsedFile(long lastModified, long length,
+				ConfigurationSnapshot snapshot) {
+			this.lastModified = lastModified;
+			this.length = length;
+			this.snapshot = snapshot;
+		}
+	}
+
+	// the result of the last merge and defaults it was merged over
+	private static final class Merged {
+		private final ConfigurationSnapshot defaults;
+		private final ConfigurationSnapshot result;
+
+		private Merged(ConfigurationSnapshot defaults,
+				ConfigurationSnapshot result) {
+			this.defaults = defaults;
+			this.result = result;
+		}
+	}
+
+	private final Map<String, Map<String, Object>> groups;
+	private volatile Merged lastMerged;
+
+	private ConfigurationSnapshot(Map<String, Map<String, Object>> groups) {
+		this.groups = groups;
+	}
+
+	private static String getKey(File settingFile) {
+		try {
+			return settingFile.getCanonicalPath();
+		} catch (IOException e) {
+			return settingFile.getAbsolutePath();
+		}
+	}
+
+	/**
+	 * Returns the snapshot of the JSON file. The file is parsed once
+	 * while it is not changed.
+	 * 
+	 * @param settingFile is the JSON file
+	 * @return the snapshot of the file. {@link #EMPTY} is returned if
+	 * there is no such file.
+	 */
+	static ConfigurationSnapshot read(File settingFile) {
+		if (!settingFile.exists())
+			return EMPTY;
+		String key = getKey(settingFile);
+		long lastModified = settingFile.lastModified();
+		long length = settingFile.length();
+		ParsedFile parsed = parsedFiles.get(key);
+		if (parsed != null && parsed.lastModified == lastModified
+				&& parsed.length == length)
+			return parsed.snapshot;
+
+		ConfigurationSnapshot snapshot = parse(settingFile);
+		parsedFiles.put(key, new ParsedFile(lastModified, length, snapshot));
+		return snapshot;
+	}
+
+	/**
+	 * Parses the JSON file even if it is cached. It is used when the file
+	 * is known to be changed. The modification time may be the same if
+	 * the file is changed quickly.
+	 * 
+	 * @param settingFile is the JSON file
+	 * @return the snapshot of the file. {@link #EMPTY} is returned if
+	 * there is no such file.
+	 */
+	static ConfigurationSnapshot reread(File settingFile) {
+		parsedFiles.remove(getKey(settingFile));
+		return read(settingFile);
+	}
+
+	private static ConfigurationSnapshot parse(File settingFile) {
+		// the compiled form is used if it is actual
+		Map<String, Map<String, Object>> groups = SettingsCompiler
+				.load(settingFile);
+		if (groups == null)
+			groups = parseJSON(settingFile);
+		Map<String, Map<String, Object>> result = new HashMap<>();
+		groups.forEach((key, group) -> result.put(key,
+				Collections.unmodifiableMap(group)));
+		return new ConfigurationSnapshot(Collections.unmodifiableMap(result));
+	}
+
+	/**
+	 * Parses the JSON file
+	 * 
+	 * @param settingFile is the JSON file
+	 * @return groups of typed settings
+	 */
+	static Map<String, Map<String, Object>> parseJSON(File settingFile) {
+		try (Reader reader = new FileReader(settingFile)) {
+			JSONObject jsonObject = (JSONObject) new JSONParser().parse(reader);
+			Map<String, Map<String, Object>> groups = new HashMap<>();
+			@SuppressWarnings("unchecked")
+			Set<String> keys = jsonObject.keySet(); // there are groups
+			keys.forEach((key) -> groups.put(key,
+					getParsedGroup((JSONObject) jsonObject.get(key))));
+			return groups;
+		} catch (Exception e) {
+			throw new RuntimeException(
+					"Configuration building has failed! Please, check it. You can look at SAMPLE_SETTING.json for verifying. ",
+					e);
+		}
+	}
+
+	/**
+	 *  parsing of each one setting
+	 */
+	private static Map<String, Object> getParsedGroup(JSONObject jsonObject) {
+		HashMap<String, Object> result = new HashMap<>();
+		@SuppressWarnings("unchecked")
+		Set<String> keys = jsonObject.keySet();
+
+		keys.forEach((key) -> {
+			JSONObject value = (JSONObject) jsonObject.get(key);
+			String type = (String) value.get(typeTag);
+
+			EAvailableDataTypes requiredType = null;
+			try {
+				requiredType = EAvailableDataTypes.valueOf(type);
+			} catch (IllegalArgumentException | NullPointerException e) {
+				throw new RuntimeException(
+						"Type specification that is not supported! Specification is "
+								+ String.valueOf(type)
+								+ ". "
+								+ " STRING, BOOL, LONG, FLOAT, INT, ENUM are suppurted. Setting name is "
+								+ key, e);
+			}
+			
+			String className   =  (String) value.get(requiredClassTag);
+			Object returnValue = null;
+			String strValue = (String) value.get(valueTag);
+
+			if ("".equals(strValue) || strValue == null)
+				result.put(key, returnValue);
+			else
+				if ("".equals(className) || className == null) {
+					result.put(key, requiredType.getValue(String.valueOf(strValue)));
+				}else{
+					result.put(key, requiredType.getValue(String.valueOf(className), 
+							String.valueOf(strValue)));
+				}
+					
+		});
+		return result;
+	}
+
+	/**
+	 * Merges these settings over the given defaults. Defaults are used
+	 * when there is no setting or its value is empty. The result is reused
+	 * while defaults are the same.
+	 * 
+	 * @param defaults are default settings
+	 * @return the merged snapshot
+	 */
+	ConfigurationSnapshot mergedOver(ConfigurationSnapshot defaults) {
+		if (defaults == null || defaults.groups.isEmpty())
+			return this;
+		Merged merged = lastMerged;
+		if (merged != null && merged.defaults == defaults)
+			return merged.result;
+		ConfigurationSnapshot result = merge(defaults);
+		lastMerged = new Merged(defaults, result);
+		return result;
+	}
+
+	private ConfigurationSnapshot merge(ConfigurationSnapshot defaults) {
+		Map<String, Map<String, Object>> merged = new HashMap<>();
+		defaults.groups.forEach((groupName, defaultGroup) -> merged.put(
+				groupName, defaultGroup));
+		groups.forEach((groupName, group) -> {
+			Map<String, Object> defaultGroup = defaults.groups.get(groupName);
+			if (defaultGroup == null) {
+				merged.put(groupName, group);
+				return;
+			}
+			Map<String, Object> mergedGroup = new HashMap<>(defaultGroup);
+			group.forEach((settingName, value) -> {
+				if (value != null || !mergedGroup.containsKey(settingName))
+					mergedGroup.put(settingName, value);
+			});
+			merged.put(groupName, Collections.unmodifiableMap(mergedGroup));
+		});
+		return new ConfigurationSnapshot(Collections.unmodifiableMap(merged));
+	}
+
+	/**
+	 * @param groupName is the name of the setting group
+	 * @return unmodifiable map of settings or <code>null</code> if there is
+	 * no such group
+	 */
+	Map<String, Object> getGroup(String groupName) {
+		return groups.get(groupName);
+	}
+
+	/**
+	 * @param groupName is the name of the setting group
+	 * @param settingName is the name of the setting
+	 * @return the value or <code>null</code>
+	 */
+	@SuppressWarnings("unchecked")
+	<T extends Object> T getValue(String groupName, String settingName) {
+		Map<String, Object> group = groups.get(groupName);
+		// if there is no group with specified name
+		if (group == null)
+			return null;
+		return (T) group.get(settingName);
+	}
+
+	@Override
+	public String toString() {
+		String result = "";
+		Set<String> keys = groups.keySet();
+		for (String key: keys){
+			result = result + key + ": " + groups.get(key).toString() + " ; ";
+		}
+		return result;
+	}
+}
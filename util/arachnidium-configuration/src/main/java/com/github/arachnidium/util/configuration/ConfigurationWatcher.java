@@ -0,0 +1,160 @@
+package com.github.arachnidium.util.configuration;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Watches files of {@link Configuration} instances by the
+ * {@link WatchService}. When a file is changed the configuration reads it
+ * again. If the file of {@link Configuration#byDefault} is changed then all
+ * watched configurations are read again because they contain default
+ * settings.<br/>
+ * <br/>
+ * Files are watched by one daemon thread. Changes are collected during
+ * {@value #QUIET_PERIOD} milliseconds. So a file which is being saved is
+ * read once.<br/>
+ * <br/>
+ * All configurations are watched if the {@value #WATCH_PROPERTY} system
+ * property is <code>true</code>.
+ */
+final class ConfigurationWatcher {
+	static final String WATCH_PROPERTY = "arachnidium.settings.watch";
+	private static final long QUIET_PERIOD = 200;
+	private static final Logger logger = Logger
+			.getLogger(ConfigurationWatcher.class.getName());
+	private static ConfigurationWatcher watcher;
+
+	private final WatchService watchService;
+	private final Set<Path> watchedFolders = new HashSet<>();
+	// configurations are not held when they are not used anymore
+	private final Map<Configuration, Path> watched = new WeakHashMap<>();
+
+	private ConfigurationWatcher() throws IOException {
+		watchService = FileSystems.getDefault().newWatchService();
+		Thread thread = new Thread(this::watch, "arachnidium-settings-watching");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Starts watching of the file of the given configuration
+	 */
+	static synchronized void watch(Configuration configuration, File file) {
+		try {
+			if (watcher == null) {
+				watcher = new ConfigurationWatcher();
+			}
+			watcher.register(configuration, file);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static Path toPath(File file) {
+		try {
+			return file.getCanonicalFile().toPath();
+		} catch (IOException e) {
+			return file.getAbsoluteFile().toPath();
+		}
+	}
+
+	private void register(Configuration configuration, File file)
+			throws IOException {
+		Path path = toPath(file);
+		Path folder = path.getParent();
+		synchronized (watched) {
+			if (watchedFolders.add(folder)) {
+				folder.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+			}
+			watched.put(configuration, path);
+		}
+	}
+
+	private void watch() {
+		while (true) {
+			try {
+				Set<Path> changed = new HashSet<>();
+				WatchKey key = watchService.take();
+				// changes are collected until files are quiet
+				while (key != null) {
+					collect(key, changed);
+					key = watchService.poll(QUIET_PERIOD, TimeUnit.MILLISECONDS);
+				}
+				reload(changed);
+			} catch (InterruptedException e) {
+				return;
+			} catch (Throwable t) {
+				logger.log(Level.SEVERE, "Settings files can't be watched", t);
+			}
+		}
+	}
+
+	private static void collect(WatchKey key, Set<Path> changed) {
+		Path folder = (Path) key.watchable();
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (event.kind() == OVERFLOW) {
+				// it is not known what was changed
+				changed.add(folder);
+				continue;
+			}
+			changed.add(folder.resolve((Path) event.context()));
+		}
+		key.reset();
+	}
+
+	private static boolean isChanged(Path path, Set<Path> changed) {
+		return changed.contains(path) || changed.contains(path.getParent());
+	}
+
+	private void reload(Set<Path> changed) {
+		Map<Configuration, Path> toReload = new LinkedHashMap<>();
+		boolean defaultsAreChanged;
+		Path pathToDefault;
+		synchronized (watched) {
+			pathToDefault = watched.get(Configuration.byDefault);
+			defaultsAreChanged = pathToDefault != null
+					&& isChanged(pathToDefault, changed);
+			for (Map.Entry<Configuration, Path> entry : watched.entrySet()) {
+				if (entry.getKey() != Configuration.byDefault
+						&& (defaultsAreChanged || isChanged(entry.getValue(),
+								changed))) {
+					toReload.put(entry.getKey(), entry.getValue());
+				}
+			}
+		}
+		// defaults are read at first. Other configurations are merged over them
+		if (defaultsAreChanged) {
+			reload(Configuration.byDefault, pathToDefault);
+		}
+		toReload.forEach(ConfigurationWatcher::reload);
+	}
+
+	private static void reload(Configuration configuration, Path path) {
+		try {
+			configuration.reload();
+		} catch (RuntimeException e) {
+			// previous settings are used while the file is broken
+			logger.log(Level.SEVERE, "Settings can't be reloaded from " + path
+					+ ". Previous settings are used", e);
+		}
+	}
+}
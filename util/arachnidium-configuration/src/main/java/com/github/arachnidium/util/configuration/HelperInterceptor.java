@@ -1,19 +1,36 @@
 package com.github.arachnidium.util.configuration;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.github.arachnidium.util.configuration.AbstractConfigurationAccessHelper.Setting;
 
 import net.sf.cglib.proxy.MethodInterceptor;
 import net.sf.cglib.proxy.MethodProxy;
 
+/**
+ * Values which are returned by methods annotated by {@link Setting} are
+ * calculated once and then they are reused. Settings which are being
+ * calculated are kept by each thread separately. So one helper can be used
+ * by parallel threads.
+ */
 class HelperInterceptor implements MethodInterceptor {
-	private final List<Method> CURRENT_STACK = new ArrayList<Method>();
 	private static final Class<?>[] EMPTY_PARAMS = new Class<?>[] {};
 	private static final Method GET_SETTING = findGetSettingMethod();
-	
+	// it means that the method has no Setting annotation
+	private static final String NOT_A_SETTING = new String();
+	// it means that the calculated value is null
+	private static final Object NULL = new Object();
+	private static final ConcurrentMap<Method, String> settingNames = new ConcurrentHashMap<>();
+
+	// names of settings which are being calculated by the current thread
+	private final ThreadLocal<Deque<String>> currentSettings = ThreadLocal
+			.withInitial(ArrayDeque::new);
+	private final ConcurrentMap<Method, Object> calculatedValues = new ConcurrentHashMap<>();
+
 	private static Method findGetSettingMethod(){
 		try {
 			return AbstractConfigurationAccessHelper.class.getDeclaredMethod(
@@ -24,17 +41,14 @@ class HelperInterceptor implements MethodInterceptor {
 		}
 	}
 
-	private String getSettingAnnotationVlue(int upperIndexToStart){
-		for (int i = upperIndexToStart; i >= 0; i--){
-			Method m = CURRENT_STACK.get(i);
-			if (!m.isAnnotationPresent(Setting.class)){
-				continue;
-			}
-			
+	private static String getSettingName(Method method) {
+		return settingNames.computeIfAbsent(method, m -> {
 			Setting settingAnnotation = m.getAnnotation(Setting.class);
+			if (settingAnnotation == null) {
+				return NOT_A_SETTING;
+			}
 			return settingAnnotation.setting();
-		}
-		return null;
+		});
 	}
 
 	/**
@@ -44,21 +58,41 @@ class HelperInterceptor implements MethodInterceptor {
 	@Override
 	public Object intercept(Object obj, Method method, Object[] args,
 			MethodProxy proxy) throws Throwable {
-
-		CURRENT_STACK.add(method);
-		try{
-			if (!method.equals(GET_SETTING)){
+		Deque<String> current = currentSettings.get();
+		if (method.equals(GET_SETTING)) {
+			String setting = current.peek();
+			if (setting == null) {
 				return proxy.invokeSuper(obj, args);
 			}
-			String setting = getSettingAnnotationVlue(CURRENT_STACK.size() - 1);
-			if (setting == null){
-				return proxy.invokeSuper(obj, args);
+			return ((AbstractConfigurationAccessHelper) obj)
+					.getSettingValue(setting);
+		}
+
+		String setting = getSettingName(method);
+		if (setting == NOT_A_SETTING) {
+			return proxy.invokeSuper(obj, args);
+		}
+
+		boolean toCache = args.length == 0;
+		if (toCache) {
+			Object value = calculatedValues.get(method);
+			if (value != null) {
+				return value == NULL ? null : value;
 			}
-			return ((AbstractConfigurationAccessHelper) obj).getSettingValue(setting);			
 		}
-		finally{
-			CURRENT_STACK.remove(CURRENT_STACK.size() - 1);
+
+		current.push(setting);
+		Object result;
+		try {
+			result = proxy.invokeSuper(obj, args);
+		} finally {
+			current.pop();
+		}
+		if (toCache) {
+			calculatedValues.putIfAbsent(method, result == null ? NULL
+					: result);
 		}
+		return result;
 	}
 
 }
@@ -0,0 +1,368 @@
+package com.github.arachnidium.util.configuration;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+
+import com.github.arachnidium.util.configuration.AbstractConfigurationAccessHelper.Setting;
+
+/**
+ * Generates accessors of {@link AbstractConfigurationAccessHelper}
+ * subclasses which are annotated by {@link Group}. The accessor of the
+ * <code>SomeHelper</code> class is <code>SomeHelperAccessor</code> of the
+ * same package. It calculates values of methods annotated by
+ * {@link Setting} once when it is created. Then these methods return
+ * fields. {@link Configuration#getSection(Class)} uses accessors instead of
+ * CGLIB proxies when they are present.<br/>
+ * <br/>
+ * Methods annotated by {@link Setting} are checked. They should not be
+ * private, static or final, should have no parameters and should return
+ * something. If the {@value #SETTINGS_OPTION} option is defined then setting
+ * names are checked against the JSON file it points to. Mistyped names
+ * cause compilation errors.
+ */
+@SupportedAnnotationTypes("com.github.arachnidium.util.configuration.Group")
+@SupportedOptions(SettingAccessorProcessor.SETTINGS_OPTION)
+public class SettingAccessorProcessor extends AbstractProcessor {
+	static final String SETTINGS_OPTION = "arachnidium.settings";
+	static final String ACCESSOR_SUFFIX = "Accessor";
+
+	private static final String HELPER_CLASS = AbstractConfigurationAccessHelper.class
+			.getCanonicalName();
+	private static final String CONFIGURATION_CLASS = Configuration.class
+			.getCanonicalName();
+	private static final String GENERATED_SINCE_9 = "javax.annotation.processing.Generated";
+	private static final String GENERATED_BEFORE_9 = "javax.annotation.Generated";
+
+	// settings which names are checked against
+	private JSONObject knownSettings;
+	private boolean knownSettingsAreRead;
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations,
+			RoundEnvironment roundEnv) {
+		for (Element element : roundEnv.getElementsAnnotatedWith(Group.class)) {
+			if (element.getKind() != ElementKind.CLASS) {
+				continue;
+			}
+			TypeElement helper = (TypeElement) element;
+			if (!isHelper(helper)) {
+				error(helper, "@Group is expected on subclasses of "
+						+ HELPER_CLASS);
+				continue;
+			}
+			Map<ExecutableElement, String> settings = new LinkedHashMap<>();
+			boolean isCorrect = collectSettings(helper, settings);
+			isCorrect = canBeExtended(helper) && isCorrect;
+			checkNames(helper, settings);
+			if (isCorrect) {
+				generate(helper, settings);
+			}
+		}
+		return false;
+	}
+
+	private void error(Element element, String message) {
+		processingEnv.getMessager().printMessage(Kind.ERROR, message, element);
+	}
+
+	private boolean isHelper(TypeElement type) {
+		TypeMirror helperType = processingEnv.getElementUtils()
+				.getTypeElement(HELPER_CLASS).asType();
+		return processingEnv.getTypeUtils().isSubtype(type.asType(),
+				helperType);
+	}
+
+	private boolean canBeExtended(TypeElement helper) {
+		boolean result = true;
+		if (helper.getModifiers().contains(Modifier.FINAL)
+				|| helper.getModifiers().contains(Modifier.PRIVATE)) {
+			error(helper, "Helpers annotated by @Group should not be final or private");
+			result = false;
+		}
+		if (helper.getNestingKind().isNested()
+				&& !helper.getModifiers().contains(Modifier.STATIC)) {
+			error(helper, "Nested helpers annotated by @Group should be static");
+			result = false;
+		}
+		boolean hasConstructor = false;
+		for (ExecutableElement constructor : ElementFilter
+				.constructorsIn(helper.getEnclosedElements())) {
+			List<String> params = new ArrayList<>();
+			constructor.getParameters().forEach(
+					param -> params.add(processingEnv.getTypeUtils()
+							.erasure(param.asType()).toString()));
+			if (params.size() == 2 && CONFIGURATION_CLASS.equals(params.get(0))
+					&& String.class.getName().equals(params.get(1))
+					&& !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+				hasConstructor = true;
+			}
+		}
+		if (!hasConstructor) {
+			error(helper, "Helpers annotated by @Group should have the not private constructor ("
+					+ CONFIGURATION_CLASS + ", " + String.class.getName() + ")");
+			result = false;
+		}
+		return result;
+	}
+
+	// collects methods annotated by Setting and names of settings.
+	// false is returned when something is wrong
+	private boolean collectSettings(TypeElement helper,
+			Map<ExecutableElement, String> result) {
+		boolean isCorrect = true;
+		for (ExecutableElement method : ElementFilter.methodsIn(processingEnv
+				.getElementUtils().getAllMembers(helper))) {
+			Setting setting = method.getAnnotation(Setting.class);
+			if (setting == null) {
+				continue;
+			}
+			Set<Modifier> modifiers = method.getModifiers();
+			if (modifiers.contains(Modifier.PRIVATE)
+					|| modifiers.contains(Modifier.STATIC)
+					|| modifiers.contains(Modifier.FINAL)) {
+				error(method, "Methods annotated by @Setting should not be private, static or final");
+				isCorrect = false;
+			}
+			if (!method.getParameters().isEmpty()
+					|| !method.getTypeParameters().isEmpty()
+					|| !method.getThrownTypes().isEmpty()) {
+				error(method, "Methods annotated by @Setting should have no parameters, "
+						+ "type parameters and declared exceptions");
+				isCorrect = false;
+			}
+			if (method.getReturnType().getKind() == TypeKind.VOID) {
+				error(method, "Methods annotated by @Setting should return a value");
+				isCorrect = false;
+			}
+			if ("".equals(setting.setting().trim())) {
+				error(method, "The name of the setting is empty");
+				isCorrect = false;
+			}
+			result.put(method, setting.setting());
+		}
+		return isCorrect;
+	}
+
+	private JSONObject getKnownSettings() {
+		if (knownSettingsAreRead) {
+			return knownSettings;
+		}
+		knownSettingsAreRead = true;
+		String path = processingEnv.getOptions().get(SETTINGS_OPTION);
+		if (path == null) {
+			return null;
+		}
+		try (Reader reader = new FileReader(path)) {
+			knownSettings = (JSONObject) new JSONParser().parse(reader);
+		} catch (Exception e) {
+			processingEnv.getMessager().printMessage(Kind.ERROR,
+					"Settings can't be read from " + path + ". " + e);
+		}
+		return knownSettings;
+	}
+
+	private void checkNames(TypeElement helper,
+			Map<ExecutableElement, String> settings) {
+		JSONObject known = getKnownSettings();
+		if (known == null) {
+			return;
+		}
+		String groupName = helper.getAnnotation(Group.class).settingGroup();
+		Object group = known.get(groupName);
+		if (!(group instanceof JSONObject)) {
+			error(helper, "There is no setting group '" + groupName + "' in "
+					+ processingEnv.getOptions().get(SETTINGS_OPTION));
+			return;
+		}
+		settings.forEach((method, setting) -> {
+			if (!((JSONObject) group).containsKey(setting)) {
+				error(method, "There is no setting '" + setting
+						+ "' in the group '" + groupName + "' of "
+						+ processingEnv.getOptions().get(SETTINGS_OPTION));
+			}
+		});
+	}
+
+	private String getReturnType(ExecutableElement method) {
+		TypeMirror returnType = method.getReturnType();
+		if (returnType.getKind().isPrimitive()) {
+			return processingEnv.getTypeUtils()
+					.boxedClass(processingEnv.getTypeUtils()
+							.getPrimitiveType(returnType.getKind()))
+					.getQualifiedName().toString();
+		}
+		return returnType.toString();
+	}
+
+	private static String getAccessModifier(ExecutableElement method) {
+		if (method.getModifiers().contains(Modifier.PUBLIC)) {
+			return "public ";
+		}
+		if (method.getModifiers().contains(Modifier.PROTECTED)) {
+			return "protected ";
+		}
+		return "";
+	}
+
+	private static String quote(String value) {
+		return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+	}
+
+	// javax.annotation.Generated is not present since Java 11. So the
+	// annotation is added only when its class can be found
+	private String getGeneratedAnnotation() {
+		if (processingEnv.getSourceVersion().compareTo(SourceVersion.RELEASE_8) > 0
+				&& processingEnv.getElementUtils().getTypeElement(
+						GENERATED_SINCE_9) != null) {
+			return GENERATED_SINCE_9;
+		}
+		if (processingEnv.getElementUtils().getTypeElement(GENERATED_BEFORE_9) != null) {
+			return GENERATED_BEFORE_9;
+		}
+		return null;
+	}
+
+	private void generate(TypeElement helper,
+			Map<ExecutableElement, String> settings) {
+		PackageElement packageElement = processingEnv.getElementUtils()
+				.getPackageOf(helper);
+		String packageName = packageElement.getQualifiedName().toString();
+		String binaryName = processingEnv.getElementUtils()
+				.getBinaryName(helper).toString();
+		String simpleName = (packageName.isEmpty() ? binaryName : binaryName
+				.substring(packageName.length() + 1)).replace('$', '_')
+				+ ACCESSOR_SUFFIX;
+		String helperName = helper.getQualifiedName().toString();
+		List<ExecutableElement> methods = new ArrayList<>(settings.keySet());
+
+		StringBuilder code = new StringBuilder();
+		if (!packageName.isEmpty()) {
+			code.append("package ").append(packageName).append(";\n\n");
+		}
+		code.append("/**\n * Values of {@link ").append(helperName)
+				.append("} settings which are calculated once.\n")
+				.append(" * It is generated by {@link ")
+				.append(SettingAccessorProcessor.class.getName())
+				.append("}\n */\n");
+		String generated = getGeneratedAnnotation();
+		if (generated != null) {
+			code.append("@").append(generated).append("(")
+					.append(quote(SettingAccessorProcessor.class.getName()))
+					.append(")\n");
+		}
+		code.append("final class ").append(simpleName).append(" extends ")
+				.append(helperName).append(" {\n");
+		code.append("\tprivate static final class CalculationFailure {\n")
+				.append("\t\tprivate final RuntimeException exception;\n\n")
+				.append("\t\tprivate CalculationFailure(RuntimeException exception) {\n")
+				.append("\t\t\tthis.exception = exception;\n\t\t}\n\t}\n\n");
+		code.append("\t// it is not null while the value of the setting is calculated\n")
+				.append("\tprivate String calculatedSetting;\n")
+				.append("\tprivate boolean areValuesCalculated;\n");
+		for (int i = 0; i < methods.size(); i++) {
+			code.append("\t// ").append(settings.get(methods.get(i)))
+					.append("\n\tprivate final Object value").append(i)
+					.append(";\n");
+		}
+		code.append("\n\t").append(simpleName).append("(")
+				.append(CONFIGURATION_CLASS)
+				.append(" configuration, String group) {\n")
+				.append("\t\tsuper(configuration, group);\n");
+		for (int i = 0; i < methods.size(); i++) {
+			ExecutableElement method = methods.get(i);
+			code.append("\t\tvalue").append(i)
+					.append(" = calculateSettingValue(")
+					.append(quote(settings.get(method))).append(", super::")
+					.append(method.getSimpleName()).append(");\n");
+		}
+		code.append("\t\tareValuesCalculated = true;\n\t}\n\n");
+
+		code.append("\tprivate Object calculateSettingValue(String setting,\n")
+				.append("\t\t\tjava.util.function.Supplier<?> getter) {\n")
+				.append("\t\tString previous = calculatedSetting;\n")
+				.append("\t\tcalculatedSetting = setting;\n")
+				.append("\t\ttry {\n\t\t\treturn getter.get();\n")
+				.append("\t\t} catch (RuntimeException e) {\n")
+				.append("\t\t\treturn new CalculationFailure(e);\n")
+				.append("\t\t} finally {\n")
+				.append("\t\t\tcalculatedSetting = previous;\n\t\t}\n\t}\n\n");
+		code.append("\tprivate static Object returnSettingValue(Object value) {\n")
+				.append("\t\tif (value instanceof CalculationFailure) {\n")
+				.append("\t\t\tthrow ((CalculationFailure) value).exception;\n")
+				.append("\t\t}\n\t\treturn value;\n\t}\n\n");
+		code.append("\t@Override\n")
+				.append("\tprotected <T extends Object> T getSetting() {\n")
+				.append("\t\tif (calculatedSetting == null) {\n")
+				.append("\t\t\treturn super.getSetting();\n\t\t}\n")
+				.append("\t\treturn getSettingValue(calculatedSetting);\n\t}\n");
+		for (int i = 0; i < methods.size(); i++) {
+			ExecutableElement method = methods.get(i);
+			String returnType = getReturnType(method);
+			code.append("\n\t@Override\n\t")
+					.append(getAccessModifier(method))
+					.append(method.getReturnType().toString()).append(" ")
+					.append(method.getSimpleName()).append("() {\n")
+					.append("\t\tif (!areValuesCalculated) {\n")
+					.append("\t\t\treturn (").append(returnType)
+					.append(") returnSettingValue(calculateSettingValue(")
+					.append(quote(settings.get(method))).append(", super::")
+					.append(method.getSimpleName()).append("));\n\t\t}\n")
+					.append("\t\treturn (").append(returnType)
+					.append(") returnSettingValue(value").append(i)
+					.append(");\n\t}\n");
+		}
+		code.append("}\n");
+
+		String generatedName = packageName.isEmpty() ? simpleName
+				: packageName + "." + simpleName;
+		try (Writer writer = processingEnv.getFiler()
+				.createSourceFile(generatedName, helper).openWriter()) {
+			writer.write(code.toString());
+		} catch (IOException e) {
+			error(helper, "The accessor can't be generated. " + e);
+		}
+	}
+
+	/**
+	 * @return the name of the accessor class which is generated for
+	 * the given helper class
+	 */
+	static String getAccessorName(Class<?> helperClass) {
+		String name = helperClass.getName();
+		int lastDot = name.lastIndexOf('.');
+		return name.substring(0, lastDot + 1)
+				+ name.substring(lastDot + 1).replace('$', '_')
+				+ ACCESSOR_SUFFIX;
+	}
+}
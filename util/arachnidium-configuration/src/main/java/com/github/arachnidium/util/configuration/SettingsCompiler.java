@@ -0,0 +1,234 @@
+package com.github.arachnidium.util.configuration;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Compiles JSON files of settings into the binary form. The compiled file
+ * is stored next to the JSON file. Its name is the name of the JSON file
+ * with the {@value #EXTENSION} extension. It contains the checksum (CRC32 and
+ * the length) of the JSON file and typed values of settings. {@link Configuration} reads
+ * the compiled file instead of JSON parsing when the checksum matches the
+ * JSON file. It is a checksum, not a content hash: it detects edits of the
+ * file, but two different contents can have the same checksum. So the
+ * compiled file should be rebuilt by this tool or removed, not edited.<br/>
+ * <br/>
+ * Files are read by usual reads, not by the memory mapping. Mapped files
+ * stay locked on Windows until the buffer is collected, so they couldn't be
+ * edited or compiled again during the run.<br/>
+ * <br/>
+ * Usage:<br/>
+ * <code>java -cp ... com.github.arachnidium.util.configuration.SettingsCompiler
+ * settings.json [other.json ...]</code>
+ */
+public final class SettingsCompiler {
+	static final String EXTENSION = ".bin";
+	private static final int MAGIC = 0x41524353; // "ARCS"
+	private static final int VERSION = 1;
+	private static final byte NULL = 0;
+	private static final int BUFFER_SIZE = 8 * 1024;
+
+	private SettingsCompiler() {
+		super();
+	}
+
+	public static void main(String[] args) {
+		if (args.length == 0) {
+			System.out.println("Usage: SettingsCompiler settings.json [other.json ...]");
+			return;
+		}
+		for (String path : args) {
+			File compiled = compile(new File(path));
+			System.out.println(path + " has been compiled into "
+					+ compiled.getPath());
+		}
+	}
+
+	/**
+	 * Compiles the JSON file of settings
+	 *
+	 * @param settingFile is the JSON file
+	 * @return the compiled file
+	 */
+	public static File compile(File settingFile) {
+		File compiled = getCompiledFile(settingFile);
+		try {
+			long hash = hash(settingFile);
+			Map<String, Map<String, Object>> groups = ConfigurationSnapshot
+					.parseJSON(settingFile);
+
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream output = new DataOutputStream(bytes);
+			output.writeInt(MAGIC);
+			output.writeInt(VERSION);
+			output.writeLong(hash);
+			output.writeInt(groups.size());
+			for (Map.Entry<String, Map<String, Object>> group : groups
+					.entrySet()) {
+				writeString(output, group.getKey());
+				output.writeInt(group.getValue().size());
+				for (Map.Entry<String, Object> setting : group.getValue()
+						.entrySet()) {
+					writeString(output, setting.getKey());
+					writeValue(output, setting.getValue());
+				}
+			}
+			output.flush();
+
+			// the file is replaced atomically. Other processes may read it
+			File temp = File.createTempFile(compiled.getName(), null,
+					compiled.getAbsoluteFile().getParentFile());
+			try (OutputStream stream = Files.newOutputStream(temp.toPath())) {
+				bytes.writeTo(stream);
+			}
+			Files.move(temp.toPath(), compiled.toPath(),
+					StandardCopyOption.REPLACE_EXISTING);
+			return compiled;
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Reads the compiled form of the JSON file if it exists and its checksum
+	 * matches the JSON file
+	 *
+	 * @param settingFile is the JSON file
+	 * @return groups of typed settings or <code>null</code> if there is no
+	 * actual compiled form
+	 */
+	static Map<String, Map<String, Object>> load(File settingFile) {
+		File compiled = getCompiledFile(settingFile);
+		if (!compiled.isFile()) {
+			return null;
+		}
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(compiled
+					.toPath()));
+			if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+				return null;
+			}
+			if (buffer.getLong() != hash(settingFile)) {
+				return null;
+			}
+
+			int groupCount = buffer.getInt();
+			Map<String, Map<String, Object>> groups = new HashMap<>();
+			for (int i = 0; i < groupCount; i++) {
+				String groupName = readString(buffer);
+				int settingCount = buffer.getInt();
+				Map<String, Object> group = new HashMap<>();
+				for (int j = 0; j < settingCount; j++) {
+					String settingName = readString(buffer);
+					group.put(settingName, readValue(buffer));
+				}
+				groups.put(groupName, group);
+			}
+			return groups;
+		} catch (IOException | RuntimeException e) {
+			// the broken compiled file is ignored. JSON is parsed
+			return null;
+		}
+	}
+
+	static File getCompiledFile(File settingFile) {
+		return new File(settingFile.getPath() + EXTENSION);
+	}
+
+	// CRC32 of the content in the lower half and the length in the upper
+	// half. It is much cheaper than message digests when the JVM is cold
+	private static long hash(File settingFile) throws IOException {
+		try (InputStream input = Files.newInputStream(settingFile.toPath())) {
+			CRC32 crc = new CRC32();
+			byte[] buffer = new byte[BUFFER_SIZE];
+			long length = 0;
+			int read;
+			while ((read = input.read(buffer)) > 0) {
+				crc.update(buffer, 0, read);
+				length += read;
+			}
+			return (length << 32) | crc.getValue();
+		}
+	}
+
+	private static void writeString(DataOutputStream output, String value)
+			throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	// the type is stored as the ordinal of EAvailableDataTypes + 1.
+	// 0 means null
+	private static void writeValue(DataOutputStream output, Object value)
+			throws IOException {
+		if (value == null) {
+			output.writeByte(NULL);
+		} else if (value instanceof String) {
+			output.writeByte(EAvailableDataTypes.STRING.ordinal() + 1);
+			writeString(output, (String) value);
+		} else if (value instanceof Boolean) {
+			output.writeByte(EAvailableDataTypes.BOOL.ordinal() + 1);
+			output.writeBoolean((Boolean) value);
+		} else if (value instanceof Long) {
+			output.writeByte(EAvailableDataTypes.LONG.ordinal() + 1);
+			output.writeLong((Long) value);
+		} else if (value instanceof Float) {
+			output.writeByte(EAvailableDataTypes.FLOAT.ordinal() + 1);
+			output.writeFloat((Float) value);
+		} else if (value instanceof Integer) {
+			output.writeByte(EAvailableDataTypes.INT.ordinal() + 1);
+			output.writeInt((Integer) value);
+		} else if (value instanceof Enum) {
+			output.writeByte(EAvailableDataTypes.ENUM.ordinal() + 1);
+			writeString(output, ((Enum<?>) value).getDeclaringClass()
+					.getName());
+			writeString(output, ((Enum<?>) value).name());
+		} else {
+			throw new IllegalArgumentException("Values of "
+					+ value.getClass().getName() + " can't be compiled");
+		}
+	}
+
+	private static Object readValue(ByteBuffer buffer) {
+		byte tag = buffer.get();
+		if (tag == NULL) {
+			return null;
+		}
+		switch (EAvailableDataTypes.values()[tag - 1]) {
+		case STRING:
+			return readString(buffer);
+		case BOOL:
+			return buffer.get() != 0;
+		case LONG:
+			return buffer.getLong();
+		case FLOAT:
+			return buffer.getFloat();
+		case INT:
+			return buffer.getInt();
+		case ENUM:
+			String className = readString(buffer);
+			return EAvailableDataTypes.ENUM.getValue(className,
+					readString(buffer));
+		default:
+			throw new IllegalArgumentException("Unknown type " + tag);
+		}
+	}
+}
@@ -0,0 +1,237 @@
+package com.github.arachnidium.util.configuration;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Properties;
+import java.util.regex.Pattern;
+
+/**
+ * Looks for the file of default settings. These places are checked
+ * one by one:<br/>
+ * - the file which is defined by the {@value #PATH_PROPERTY} system
+ * property<br/>
+ * - the resource of the class path (it should be a file)<br/>
+ * - the path which was found by previous runs in the same working
+ * directory. These paths are stored in the {@value #CACHE_FILE_NAME} file
+ * of the {@value #CACHE_DIRECTORY} directory of the user home. The cached path
+ * is used only when it is the file inside the working directory and there is
+ * no nearer file<br/>
+ * - the working directory and its subdirectories. The depth of the search is
+ * limited by the {@value #DEPTH_PROPERTY} system property (default value is
+ * {@value #DEFAULT_DEPTH}). Directories which match the
+ * {@value #IGNORED_PROPERTY} system property (comma separated names,
+ * <code>*</code> and <code>?</code> wildcards are supported) are not
+ * visited. Default value is {@value #DEFAULT_IGNORED}<br/>
+ * <br/>
+ * The nearest file is found. Files of ignored directories are not found. So
+ * when there are several files the found one can be different from the one
+ * which was found by previous versions. The {@value #PATH_PROPERTY} system
+ * property defines the file explicitly.
+ */
+final class SettingsLocator {
+	static final String PATH_PROPERTY = "arachnidium.settings";
+	static final String DEPTH_PROPERTY = "arachnidium.settings.searchDepth";
+	static final String IGNORED_PROPERTY = "arachnidium.settings.ignored";
+	static final String CACHE_DIRECTORY = ".arachnidium";
+	static final String CACHE_FILE_NAME = "settings-locations.properties";
+	static final int DEFAULT_DEPTH = 8;
+	static final String DEFAULT_IGNORED = "target,node_modules,.*,bin,build,out";
+
+	private final String fileName;
+
+	SettingsLocator(String fileName) {
+		this.fileName = fileName;
+	}
+
+	/**
+	 * @return the path to the file of default settings or <code>null</code>
+	 * if there is no such file
+	 */
+	String locate() {
+		String explicit = System.getProperty(PATH_PROPERTY);
+		if (explicit != null && !"".equals(explicit)) {
+			return explicit;
+		}
+
+		String fromClassPath = getFromClassPath();
+		if (fromClassPath != null) {
+			return fromClassPath;
+		}
+
+		File workingDirectory = getWorkingDirectory();
+		File cacheFile = new File(new File(System.getProperty("user.home"),
+				CACHE_DIRECTORY), CACHE_FILE_NAME);
+		Properties cache = readCache(cacheFile);
+		File cached = getCached(cache.getProperty(workingDirectory.getPath()),
+				workingDirectory);
+		String found;
+		if (cached != null) {
+			// only shallower directories are checked. There can be a nearer
+			// file which was created after the previous run
+			found = search(workingDirectory,
+					getDepth(workingDirectory, cached) - 1);
+			if (found == null) {
+				return cached.getPath();
+			}
+		} else {
+			found = search(workingDirectory,
+					Integer.getInteger(DEPTH_PROPERTY, DEFAULT_DEPTH));
+		}
+		if (found != null) {
+			cache.setProperty(workingDirectory.getPath(), found);
+			writeCache(cache, cacheFile);
+		}
+		return found;
+	}
+
+	private String getFromClassPath() {
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		if (classLoader == null) {
+			classLoader = SettingsLocator.class.getClassLoader();
+		}
+		URL resource = classLoader.getResource(fileName);
+		// only files can be read
+		if (resource == null || !"file".equals(resource.getProtocol())) {
+			return null;
+		}
+		try {
+			return new File(resource.toURI()).getPath();
+		} catch (URISyntaxException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static File getWorkingDirectory() {
+		File workingDirectory = new File(".");
+		try {
+			return workingDirectory.getCanonicalFile();
+		} catch (IOException e) {
+			return workingDirectory.getAbsoluteFile();
+		}
+	}
+
+	// the cached path is checked again. It should be the file inside the
+	// working directory
+	private File getCached(String cached, File workingDirectory) {
+		if (cached == null) {
+			return null;
+		}
+		try {
+			File file = new File(cached).getCanonicalFile();
+			if (!file.isFile() || !file.getName().endsWith(fileName)
+					|| !file.toPath().startsWith(workingDirectory.toPath())) {
+				return null;
+			}
+			return file;
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	// the count of directories between the working directory and the file
+	private static int getDepth(File workingDirectory, File file) {
+		return workingDirectory.toPath().relativize(file.toPath()).getNameCount() - 1;
+	}
+
+	private static Pattern toPattern(String wildcard) {
+		StringBuilder regex = new StringBuilder();
+		for (char c : wildcard.trim().toCharArray()) {
+			if (c == '*') {
+				regex.append(".*");
+			} else if (c == '?') {
+				regex.append('.');
+			} else {
+				regex.append(Pattern.quote(String.valueOf(c)));
+			}
+		}
+		return Pattern.compile(regex.toString());
+	}
+
+	private static List<Pattern> getIgnored() {
+		List<Pattern> result = new ArrayList<>();
+		for (String wildcard : System.getProperty(IGNORED_PROPERTY,
+				DEFAULT_IGNORED).split(",")) {
+			if (!"".equals(wildcard.trim())) {
+				result.add(toPattern(wildcard));
+			}
+		}
+		return result;
+	}
+
+	private static boolean isIgnored(File directory, List<Pattern> ignored) {
+		for (Pattern pattern : ignored) {
+			if (pattern.matcher(directory.getName()).matches()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// breadth-first search. So the nearest file is found
+	private String search(File root, int maxDepth) {
+		List<Pattern> ignored = getIgnored();
+		Deque<File> current = new ArrayDeque<>();
+		current.add(root);
+		for (int depth = 0; depth <= maxDepth && !current.isEmpty(); depth++) {
+			Deque<File> next = new ArrayDeque<>();
+			for (File directory : current) {
+				File[] files = directory.listFiles();
+				if (files == null) {
+					continue;
+				}
+				for (File file : files) {
+					if (file.isFile() && file.getName().endsWith(fileName)) {
+						return file.getPath();
+					}
+				}
+				for (File file : files) {
+					if (file.isDirectory() && !isIgnored(file, ignored)) {
+						next.add(file);
+					}
+				}
+			}
+			current = next;
+		}
+		return null;
+	}
+
+	private static Properties readCache(File cacheFile) {
+		Properties cache = new Properties();
+		if (!cacheFile.isFile()) {
+			return cache;
+		}
+		try (InputStream input = new FileInputStream(cacheFile)) {
+			cache.load(input);
+		} catch (IOException | IllegalArgumentException e) {
+			// the broken cache is ignored. It will be rewritten
+		}
+		return cache;
+	}
+
+	private static void writeCache(Properties cache, File cacheFile) {
+		try {
+			cacheFile.getParentFile().mkdirs();
+			File temp = File.createTempFile(CACHE_FILE_NAME, null,
+					cacheFile.getParentFile());
+			try (OutputStream output = new FileOutputStream(temp)) {
+				cache.store(output, "Locations of default settings");
+			}
+			Files.move(temp.toPath(), cacheFile.toPath(),
+					StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException | RuntimeException e) {
+			// the cache is optional
+		}
+	}
+}
@@ -1,11 +1,18 @@
 package config_tests;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+
 import org.aspectj.lang.reflect.AdviceKind;
 import org.junit.Assert;
 import org.testng.annotations.Test;
 import org.testng.annotations.BeforeTest;
 
 import com.github.arachnidium.util.configuration.Configuration;
+import com.github.arachnidium.util.configuration.SettingsCompiler;
 
 public class BasicConfigTest {
 	
@@ -19,6 +26,8 @@ public class BasicConfigTest {
 	  TestHelper helper2 = test2.getSection(TestHelper.class);
 	  
 	  System.out.println(Configuration.byDefault.toString());
+	  // the accessor is generated by SettingAccessorProcessor
+	  Assert.assertEquals("TestHelperAccessor", helper1.getClass().getSimpleName());
 	  
 	  Assert.assertEquals(AdviceKind.AFTER, helperDefault.getAspectKind());
 	  Assert.assertEquals(new Integer("2"), helperDefault.getInt1());
@@ -36,6 +45,50 @@ public class BasicConfigTest {
 	  
   }
   
+  @Test
+  public void mergeTest() {
+	  HashMap<String, Object> group = test1.getSettingGroup("test");
+	  Assert.assertEquals(AdviceKind.AFTER, group.get("aspect"));
+	  Assert.assertEquals(new Integer("2"), group.get("int1"));
+	  Assert.assertEquals(new Integer("4"), group.get("int2"));
+	  
+	  Assert.assertEquals(new Integer("4"), test1.getSettingValue("test", "int2"));
+	  Assert.assertEquals(new Integer("3"), Configuration.byDefault.getSettingValue("test", "int2"));
+	  Assert.assertNull(test1.getSettingValue("test", "absent"));
+	  Assert.assertNull(test1.getSettingGroup("absent"));
+  }
+  
+  @Test
+  public void changedFileTest() throws IOException {
+	  File file = File.createTempFile("changed", ".json");
+	  file.deleteOnExit();
+	  Files.write(file.toPath(), "{\"test\":{\"int2\":{\"type\":\"INT\",\"value\":\"7\"}}}".getBytes());
+	  Assert.assertEquals(new Integer("7"), Configuration.get(file.getPath()).getSettingValue("test", "int2"));
+	  Assert.assertEquals(new Integer("7"), Configuration.get(file.getPath()).getSettingValue("test", "int2"));
+	  
+	  Files.write(file.toPath(), "{\"test\":{\"int2\":{\"type\":\"INT\",\"value\":\"10\"}}}".getBytes());
+	  Assert.assertEquals(new Integer("10"), Configuration.get(file.getPath()).getSettingValue("test", "int2"));
+  }
+  
+  @Test
+  public void compiledFileTest() throws IOException {
+	  File file = File.createTempFile("compiled", ".json");
+	  file.deleteOnExit();
+	  Files.copy(new File("src/test/resources/test2.json").toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+	  File compiled = SettingsCompiler.compile(file);
+	  compiled.deleteOnExit();
+	  Assert.assertTrue(compiled.isFile());
+	  
+	  TestHelper helper = Configuration.get(file.getPath()).getSection(TestHelper.class);
+	  Assert.assertEquals(AdviceKind.BEFORE,  helper.getAspectKind());
+	  Assert.assertEquals(new Integer("5"), helper.getInt1());
+	  Assert.assertEquals(new Integer("6"), helper.getInt2());
+	  
+	  // the compiled file is not actual anymore
+	  Files.write(file.toPath(), "{\"test\":{\"int2\":{\"type\":\"INT\",\"value\":\"11\"}}}".getBytes());
+	  Assert.assertEquals(new Integer("11"), Configuration.get(file.getPath()).getSettingValue("test", "int2"));
+  }
+  
   @BeforeTest
   public void beforeTest() {
 	  test1 = Configuration.get("src/test/resources/test1.json");
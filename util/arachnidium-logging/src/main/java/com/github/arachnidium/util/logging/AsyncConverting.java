@@ -0,0 +1,141 @@
+package com.github.arachnidium.util.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Level;
+
+import com.github.arachnidium.util.logging.Log.LogRecWithAttach;
+
+/**
+ * Delivers log records to {@link ILogConverter} in the background.
+ * Records are put on the lock-free queue by threads that create
+ * log messages. The single daemon thread drains the queue and
+ * passes records to {@link ILogConverter#convertBatch(List)} in
+ * the order they were put.<br/>
+ * <br/>
+ * Callers which create a message with {@link Level#SEVERE} wait until
+ * all previous records are delivered. The queue is also flushed when JVM
+ * shuts down.
+ */
+final class AsyncConverting implements ILogConverter {
+	// is put on the queue when somebody waits for delivery
+	private static class FlushRequest {
+		private final CountDownLatch delivered = new CountDownLatch(1);
+	}
+
+	private final ConcurrentLinkedQueue<Object> queue = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger depth = new AtomicInteger();
+	private final AtomicInteger peakDepth = new AtomicInteger();
+	private final AtomicLong deliveredCount = new AtomicLong();
+	private final ILogConverter target;
+	private final int maxBatchSize;
+	private final Thread worker;
+	// failures of converters are reported here as they are reported by
+	// java.util.logging handlers. The default manager reports the first one
+	private final ErrorManager errorManager = new ErrorManager();
+
+	AsyncConverting(ILogConverter target, int maxBatchSize) {
+		this.target = target;
+		this.maxBatchSize = maxBatchSize;
+		worker = new Thread(this::drain, "arachnidium-log-converting");
+		worker.setDaemon(true);
+		worker.start();
+		Runtime.getRuntime().addShutdownHook(
+				new Thread(this::flush, "arachnidium-log-flushing"));
+	}
+
+	/**
+	 * Puts the record on the queue. If the record has
+	 * {@link Level#SEVERE} then it waits for the delivery.
+	 *
+	 * @see com.github.arachnidium.util.logging.ILogConverter#convert(com.github.arachnidium.util.logging.Log.LogRecWithAttach)
+	 */
+	@Override
+	public void convert(LogRecWithAttach record) {
+		queue.offer(record);
+		int current = depth.incrementAndGet();
+		int peak = peakDepth.get();
+		while (current > peak && !peakDepth.compareAndSet(peak, current)) {
+			peak = peakDepth.get();
+		}
+		LockSupport.unpark(worker);
+		if (Level.SEVERE.equals(record.getLevel())) {
+			flush();
+		}
+	}
+
+	/**
+	 * Waits until all records which were put before are delivered.
+	 * It does nothing if it is invoked by the converting thread (e.g. when
+	 * some converter creates a log message)
+	 */
+	void flush() {
+		if (Thread.currentThread() == worker || !worker.isAlive()) {
+			return;
+		}
+		FlushRequest request = new FlushRequest();
+		queue.offer(request);
+		LockSupport.unpark(worker);
+		try {
+			request.delivered.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	int getDepth() {
+		return depth.get();
+	}
+
+	int getPeakDepth() {
+		return peakDepth.get();
+	}
+
+	long getDeliveredCount() {
+		return deliveredCount.get();
+	}
+
+	private void deliver(List<LogRecWithAttach> batch) {
+		if (batch.size() == 0) {
+			return;
+		}
+		try {
+			target.convertBatch(new ArrayList<>(batch));
+		} catch (Throwable t) {
+			// converting thread shouldn't be stopped by some converter
+			errorManager.error("Log records can't be converted",
+					t instanceof Exception ? (Exception) t : new Exception(t),
+					ErrorManager.WRITE_FAILURE);
+		}
+		deliveredCount.addAndGet(batch.size());
+		batch.clear();
+	}
+
+	private void drain() {
+		List<LogRecWithAttach> batch = new ArrayList<>(maxBatchSize);
+		while (true) {
+			Object item = queue.poll();
+			if (item == null) {
+				deliver(batch);
+				LockSupport.park(this);
+				continue;
+			}
+			if (item instanceof FlushRequest) {
+				deliver(batch);
+				((FlushRequest) item).delivered.countDown();
+				continue;
+			}
+			depth.decrementAndGet();
+			batch.add((LogRecWithAttach) item);
+			if (batch.size() >= maxBatchSize) {
+				deliver(batch);
+			}
+		}
+	}
+}
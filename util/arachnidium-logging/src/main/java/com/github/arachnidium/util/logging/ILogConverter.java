@@ -1,11 +1,34 @@
 package com.github.arachnidium.util.logging;
 
+import java.util.List;
+
 import com.github.arachnidium.util.logging.Log.LogRecWithAttach;
 
 /**
  * It is for something that converts log messages 
- * to some report or messages of 3rd party logging lib.
+ * to some report or messages of 3rd party logging lib.<br/>
+ * <br/>
+ * When the asynchronous logging is on {@link #convert(LogRecWithAttach)}
+ * and {@link #convertBatch(List)} are invoked by the background thread
+ * some time later. They are never invoked by the thread which created the
+ * message then. So converters shouldn't rely on state of the current
+ * thread (e.g. the current test or step) and should guard their own
+ * state. {@link Log#flush()} waits until messages created before are
+ * converted.
  */
 public interface ILogConverter {
 	public void convert(LogRecWithAttach record);
+
+	/**
+	 * Converts records which were collected by the asynchronous
+	 * logging. It can be overridden by converters which are able to
+	 * process many records at once.
+	 *
+	 * @param records are log records in the order they were created
+	 */
+	public default void convertBatch(List<LogRecWithAttach> records) {
+		for (LogRecWithAttach record : records) {
+			convert(record);
+		}
+	}
 }
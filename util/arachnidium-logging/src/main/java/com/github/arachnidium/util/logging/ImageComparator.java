@@ -0,0 +1,225 @@
+package com.github.arachnidium.util.logging;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Compares screenshots with baselines. Images are split into square tiles.
+ * Pixels of tiles are compared one by one. Tiles are processed in parallel
+ * by the common {@link ForkJoinPool}. Hashes of tiles are not used. Equal
+ * hashes would have to be confirmed pixel by pixel anyway, so they would
+ * only add work.<br/>
+ * <br/>
+ * Baselines which are read from files are cached during the run. A baseline
+ * is read again when the modification time or the size of its file
+ * is changed.
+ */
+public final class ImageComparator {
+	private static final int TILE_SIZE = 64;
+	// count of tiles which are processed by one task
+	private static final int TILES_PER_TASK = 16;
+	private static final int DIFFERENT = 0xFFFF0000;
+
+	private static final ConcurrentMap<String, Baseline> baselines = new ConcurrentHashMap<>();
+
+	/**
+	 * The baseline which is read from the file
+	 */
+	private static final class Baseline {
+		private final long lastModified;
+		private final long length;
+		private final TiledImage image;
+
+		private Baseline(long lastModified, long length, TiledImage image) {
+			this.lastModified = lastModified;
+			this.length = length;
+			this.image = image;
+		}
+
+		private boolean isActual(File file) {
+			return lastModified == file.lastModified()
+					&& length == file.length();
+		}
+	}
+
+	/**
+	 * Pixels of the image and the count of its tiles
+	 */
+	private static final class TiledImage {
+		private final int width;
+		private final int height;
+		private final int[] pixels;
+		private final int columns;
+		private final int tiles;
+
+		private TiledImage(BufferedImage image) {
+			width = image.getWidth();
+			height = image.getHeight();
+			pixels = image.getRGB(0, 0, width, height, null, 0, width);
+			columns = (width + TILE_SIZE - 1) / TILE_SIZE;
+			tiles = columns * ((height + TILE_SIZE - 1) / TILE_SIZE);
+		}
+	}
+
+	// compares tiles of the common area of images
+	private static final class ComparingTask extends RecursiveTask<Long> {
+		private static final long serialVersionUID = 1L;
+		private final TiledImage actual;
+		private final TiledImage baseline;
+		private final int[] mask;
+		private final int maskWidth;
+		private final int from;
+		private final int to;
+
+		private ComparingTask(TiledImage actual, TiledImage baseline,
+				int[] mask, int maskWidth, int from, int to) {
+			this.actual = actual;
+			this.baseline = baseline;
+			this.mask = mask;
+			this.maskWidth = maskWidth;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected Long compute() {
+			if (to - from > TILES_PER_TASK) {
+				int middle = (from + to) >>> 1;
+				ComparingTask left = new ComparingTask(actual, baseline, mask,
+						maskWidth, from, middle);
+				left.fork();
+				long right = new ComparingTask(actual, baseline, mask,
+						maskWidth, middle, to).compute();
+				return left.join() + right;
+			}
+			long different = 0;
+			for (int tile = from; tile < to; tile++) {
+				different += comparePixels(tile);
+			}
+			return different;
+		}
+
+		// images have the same size
+		private long comparePixels(int tile) {
+			int x0 = (tile % actual.columns) * TILE_SIZE;
+			int y0 = (tile / actual.columns) * TILE_SIZE;
+			int x1 = Math.min(x0 + TILE_SIZE, actual.width);
+			int y1 = Math.min(y0 + TILE_SIZE, actual.height);
+			long different = 0;
+			for (int y = y0; y < y1; y++) {
+				int offset = y * actual.width;
+				for (int x = x0; x < x1; x++) {
+					if (actual.pixels[offset + x] != baseline.pixels[offset + x]) {
+						mask[y * maskWidth + x] = DIFFERENT;
+						different++;
+					}
+				}
+			}
+			return different;
+		}
+	}
+
+	private ImageComparator() {
+		super();
+	}
+
+	private static TiledImage getBaseline(File baseline) {
+		return baselines.compute(baseline.getAbsolutePath(), (path, cached) -> {
+			if (cached != null && cached.isActual(baseline)) {
+				return cached;
+			}
+			// the file can be changed while it is read
+			long lastModified = baseline.lastModified();
+			long length = baseline.length();
+			try {
+				BufferedImage image = ImageIO.read(baseline);
+				if (image == null) {
+					throw new IOException("The baseline " + path
+							+ " can't be decoded");
+				}
+				return new Baseline(lastModified, length, new TiledImage(image));
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		}).image;
+	}
+
+	/**
+	 * Compares the image with the baseline which is stored in the file.
+	 * The baseline is read once and then it is reused while the file
+	 * is not changed.
+	 *
+	 * @param actual is the image which should be checked
+	 * @param baseline is the file of the expected image
+	 * @return the {@link ImageDifference}
+	 */
+	public static ImageDifference compare(BufferedImage actual, File baseline) {
+		return compare(new TiledImage(actual), getBaseline(baseline));
+	}
+
+	/**
+	 * Compares the image with the baseline
+	 *
+	 * @param actual is the image which should be checked
+	 * @param baseline is the expected image
+	 * @return the {@link ImageDifference}
+	 */
+	public static ImageDifference compare(BufferedImage actual,
+			BufferedImage baseline) {
+		return compare(new TiledImage(actual), new TiledImage(baseline));
+	}
+
+	/**
+	 * Removes cached baselines
+	 */
+	public static void clearBaselines() {
+		baselines.clear();
+	}
+
+	private static ImageDifference compare(TiledImage actual,
+			TiledImage baseline) {
+		int maskWidth = Math.max(actual.width, baseline.width);
+		int maskHeight = Math.max(actual.height, baseline.height);
+		int[] mask = new int[maskWidth * maskHeight];
+		long different;
+		if (actual.width == baseline.width && actual.height == baseline.height) {
+			different = new ComparingTask(actual, baseline, mask, maskWidth, 0,
+					actual.tiles).invoke();
+		} else {
+			different = compareDifferentSizes(actual, baseline, mask, maskWidth,
+					maskHeight);
+		}
+		BufferedImage maskImage = new BufferedImage(maskWidth, maskHeight,
+				BufferedImage.TYPE_INT_ARGB);
+		maskImage.setRGB(0, 0, maskWidth, maskHeight, mask, 0, maskWidth);
+		return new ImageDifference(maskImage, different, (long) maskWidth
+				* maskHeight);
+	}
+
+	// tiles don't match. So all pixels are compared.
+	private static long compareDifferentSizes(TiledImage actual,
+			TiledImage baseline, int[] mask, int maskWidth, int maskHeight) {
+		long different = 0;
+		for (int y = 0; y < maskHeight; y++) {
+			for (int x = 0; x < maskWidth; x++) {
+				boolean inActual = x < actual.width && y < actual.height;
+				boolean inBaseline = x < baseline.width && y < baseline.height;
+				if (!inActual
+						|| !inBaseline
+						|| actual.pixels[y * actual.width + x] != baseline.pixels[y
+								* baseline.width + x]) {
+					mask[y * maskWidth + x] = DIFFERENT;
+					different++;
+				}
+			}
+		}
+		return different;
+	}
+}
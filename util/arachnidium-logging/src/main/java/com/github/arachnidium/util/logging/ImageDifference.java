@@ -0,0 +1,60 @@
+package com.github.arachnidium.util.logging;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * The result of the comparison of a screenshot with a baseline
+ *
+ * @see ImageComparator
+ */
+public final class ImageDifference {
+	private final BufferedImage mask;
+	private final long differentPixels;
+	private final long totalPixels;
+
+	ImageDifference(BufferedImage mask, long differentPixels, long totalPixels) {
+		this.mask = mask;
+		this.differentPixels = differentPixels;
+		this.totalPixels = totalPixels;
+	}
+
+	/**
+	 * @return the image which has the same size as the biggest of compared
+	 * images. Different pixels are red. Other pixels are transparent.
+	 */
+	public BufferedImage getMask() {
+		return mask;
+	}
+
+	/**
+	 * @return the count of pixels which are different. Pixels which are
+	 * present only on one of images are different too.
+	 */
+	public long getDifferentPixels() {
+		return differentPixels;
+	}
+
+	/**
+	 * @return the similarity of images from 0 (nothing is the same) to 1
+	 * (images are identical)
+	 */
+	public double getSimilarity() {
+		if (totalPixels == 0) {
+			return 1;
+		}
+		return 1 - (double) differentPixels / totalPixels;
+	}
+
+	/**
+	 * @return <code>true</code> if images are identical
+	 */
+	public boolean isIdentical() {
+		return differentPixels == 0;
+	}
+
+	@Override
+	public String toString() {
+		return "similarity " + getSimilarity() + ", different pixels "
+				+ differentPixels + " of " + totalPixels;
+	}
+}
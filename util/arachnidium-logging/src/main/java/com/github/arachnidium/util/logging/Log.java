@@ -22,10 +22,11 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Proxy;
-import java.util.Calendar;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 import java.util.logging.LogRecord;
@@ -77,25 +78,85 @@ public class Log {
 		converters.add(converter);
 	}
 
-	private static void applyLogRec(LogRecWithAttach rec) {
-		if (commonLevel.intValue() <= rec.getLevel().intValue()) {
-			log.log(rec);
-			converting.convert(rec);
+	/**
+	 * Waits until all log messages are passed to {@link ILogConverter}s.
+	 * It makes sense when the asynchronous logging is on. Messages with
+	 * {@link Level#SEVERE} are flushed automatically.
+	 */
+	public static void flush() {
+		if (asyncConverting != null) {
+			asyncConverting.flush();
 		}
 	}
 
-	private static void applyLogRec(LogRecWithAttach rec, File attached) {
+	/**
+	 * @return the count of messages which are waiting to be passed 
+	 * to {@link ILogConverter}s. It is always 0 if the asynchronous
+	 * logging is off
+	 */
+	public static int getQueueDepth() {
+		return asyncConverting != null ? asyncConverting.getDepth() : 0;
+	}
+
+	/**
+	 * @return the max count of messages which were waiting to be passed
+	 * to {@link ILogConverter}s at the same time. It is always 0 if the 
+	 * asynchronous logging is off
+	 */
+	public static int getPeakQueueDepth() {
+		return asyncConverting != null ? asyncConverting.getPeakDepth() : 0;
+	}
+
+	/**
+	 * @return the count of messages which have been passed to 
+	 * {@link ILogConverter}s asynchronously
+	 */
+	public static long getDeliveredCount() {
+		return asyncConverting != null ? asyncConverting
+				.getDeliveredCount() : 0;
+	}
+
+	/**
+	 * @param level is a level of a message which is going to be created
+	 * @return <code>true</code> if messages of the given level are not filtered
+	 */
+	public static boolean isLoggable(eAvailableLevels level) {
+		return commonLevel.intValue() <= level.getLevel().intValue();
+	}
+
+	private static void applyLogRec(LogRecWithAttach rec) {
+		log.log(rec);
+		converting.convert(rec);
+	}
+
+	// the level is checked before the record is created
+	private static void applyLogRec(eAvailableLevels level, String msg,
+			Throwable t, File attached) {
+		if (!isLoggable(level)) {
+			return;
+		}
+		LogRecWithAttach rec = getRecordForLog(level, msg);
+		rec.setThrown(t);
 		rec.setAttachment(attached);
 		applyLogRec(rec);
 	}
 
+	// the message is built only if the level is enabled
+	private static void applyLogRec(eAvailableLevels level,
+			Supplier<String> msgSupplier, Throwable t, File attached) {
+		if (!isLoggable(level)) {
+			return;
+		}
+		applyLogRec(level, msgSupplier.get(), t, attached);
+	}
+
 	/**
 	 * Creates a log message with FINE {@link Level}
 	 * 
 	 * @param msg Message text
 	 */
 	public static void debug(String msg) {
-		applyLogRec(getRecordForLog(eAvailableLevels.FINE, msg));
+		applyLogRec(eAvailableLevels.FINE, msg, null, null);
 	}
 
     /**
@@ -106,7 +167,7 @@ public class Log {
      * @param attached attached {@link File}
      */
 	public static void debug(String msg, File attached) {
-		applyLogRec(getRecordForLog(eAvailableLevels.FINE, msg), attached);
+		applyLogRec(eAvailableLevels.FINE, msg, null, attached);
 	}
 
     /**
@@ -117,7 +178,7 @@ public class Log {
      * @param t Some {@link Throwable}
      */	
 	public static void debug(String msg, Throwable t) {
-		applyLogRec(setThrown(getRecordForLog(eAvailableLevels.FINE, msg), t));
+		applyLogRec(eAvailableLevels.FINE, msg, t, null);
 	}
 
     /**
@@ -129,8 +190,55 @@ public class Log {
      * @param attached attached {@link File}
      */
 	public static void debug(String msg, Throwable t, File attached) {
-		applyLogRec(setThrown(getRecordForLog(eAvailableLevels.FINE, msg), t),
-				attached);
+		applyLogRec(eAvailableLevels.FINE, msg, t, attached);
+	}
+
+    /**
+     * Creates a log message with FINE {@link Level}.
+     * The message text is built only if this level is enabled
+     * 
+     * @param msgSupplier returns message text
+     */
+	public static void debug(Supplier<String> msgSupplier) {
+		applyLogRec(eAvailableLevels.FINE, msgSupplier, null, null);
+	}
+
+    /**
+     * Creates a log message with FINE {@link Level} and
+     * attached file.
+     * The message text is built only if this level is enabled
+     * 
+     * @param msgSupplier returns message text
+     * @param attached attached {@link File}
+     */
+	public static void debug(Supplier<String> msgSupplier, File attached) {
+		applyLogRec(eAvailableLevels.FINE, msgSupplier, null, attached);
+	}
+
+    /**
+     * Creates a log message with FINE {@link Level} and
+     * throwable instance.
+     * The message text is built only if this level is enabled
+     * 
+     * @param msgSupplier returns message text
+     * @param t Some {@link Throwable}
+     */
+	public static void debug(Supplier<String> msgSupplier, Throwable t) {
+		applyLogRec(eAvailableLevels.FINE, msgSupplier, t, null);
+	}
+
+    /**
+     * Creates a log message with FINE {@link Level},
+     * attached file and throwable instance.
+     * The message text is built only if this level is enabled
+     * 
+     * @param msgSupplier returns message text
+     * @param t Some {@link Throwable}
+     * @param attached attached {@link File}
+     */
+	public static void debug(Supplier<String> msgSupplier, Throwable t,
+			File attached) {
+		applyLogRec(eAvailableLevels.FINE, msgSupplier, t, attached);
 	}
 
 	/**
@@ -139,7 +247,7 @@ public class Log {
 	 * @param msg Message text
 	 */
 	public static void error(String msg) {
-		applyLogRec(getRecordForLog(eAvailableLevels.SEVERE, msg));
+		applyLogRec(eAvailableLevels.SEVERE, msg, null, null);
 	}
 
     /**
@@ -150,7 +258,7 @@ public class Log {
      * @param attached attached file {@link File}
      */	
 	public static void error(String msg, File attached) {
-		applyLogRec(getRecordForLog(eAvailableLevels.SEVERE, msg), attached);
+		applyLogRec(eAvailableLevels.SEVERE, msg, null, attached);
 	}
 
     /**
@@ -161,7 +269,7 @@ public class Log {
      * @param t Some {@link Throwable}
      */		
 	public static void error(String msg, Throwable t) {
-		applyLogRec(setThrown(getRecordForLog(eAvailableLevels.SEVERE, msg), t));
+		applyLogRec(eAvailableLevels.SEVERE, msg, t, null);
 	}
 
     /**
@@ -173,9 +281,55 @@ public class Log {
      * @param attached attached {@link File}
      */	
 	public static void error(String msg, Throwable t, File attached) {
-		applyLogRec(
-				setThrown(getRecordForLog(eAvailableLevels.SEVERE, msg), t),
-				attached);
+		applyLogRec(eAvailableLevels.SEVERE, msg, t, attached);
+	}
+
+    /**
+     * Creates a log message with SEVERE {@link Level}.
+     * The message text is built only if this level is enabled
+     * 
+     * @param msgSupplier returns message text
+     */
+	public static void error(Supplier<String> msgSupplier) {
+		applyLogRec(eAvailableLevels.SEVERE, msgSupplier, null, null);
+	}
+
+    /**
+     * Creates a log message with SEVERE {@link Level} and
+     * attached file.
+     * The message text is built only if this level is enabled
+     * 
+     * @param msgSupplier returns message text
+     * @param attached attached {@link File}
+     */
+	public static void error(Supplier<String> msgSupplier, File attached) {
+		applyLogRec(eAvailableLevels.SEVERE, msgSupplier, null, attached);
+	}
+
+    /**
+     * Creates a log message with SEVERE {@link Level} and
+     * throwable instance.
+     * The message text is built only if this level is enabled
+     * 
+     * @param msgSupplier returns message text
+     * @param t Some {@link Throwable}
+     */
+	public static void error(Supplier<String> msgSupplier, Throwable t) {
+		applyLogRec(eAvailableLevels.SEVERE, msgSupplier, t, null);
+	}
+
+    /**
+     * Creates a log message with SEVERE {@link Level},
+     * attached file and throwable instance.
+     * The message text is built only if this level is enabled
+     * 
+     * @param msgSupplier returns message text
+     * @param t Some {@link Throwable}
+     * @param attached attached {@link File}
+     */
+	public static void error(Supplier<String> msgSupplier, Throwable t,
+			File attached) {
+		applyLogRec(eAvailableLevels.SEVERE, msgSupplier, t, attached);
 	}
 
 	/**
@@ -190,27 +344,42 @@ public class Log {
 	// new log record is formed here
 	private static LogRecWithAttach getRecordForLog(eAvailableLevels level,
 			String msg) {
-		StackTraceElement stack[] = Thread.currentThread().getStackTrace();
-		StackTraceElement element = stack[levelUp];
 		LogRecWithAttach rec = new LogRecWithAttach(level.getLevel(), msg);
-		rec.setSourceClassName(element.getClassName());
-		rec.setSourceMethodName(element.getMethodName());
-		rec.setMillis(Calendar.getInstance().getTimeInMillis());
+		if (toResolveCallers) {
+			StackTraceElement caller = getCaller();
+			if (caller != null) {
+				rec.setSourceClassName(caller.getClassName());
+				rec.setSourceMethodName(caller.getMethodName());
+			}
+		}
+		rec.setMillis(System.currentTimeMillis());
 		rec.setThreadID((int) Thread.currentThread().getId());
 		rec.setLoggerName(log.getName());
-		rec.setLevel(level.getLevel());
-		sequence = sequence + 1;
-		rec.setSequenceNumber(sequence);
+		rec.setSequenceNumber(sequence.incrementAndGet());
 		return rec;
 	}
 
+	// the first stack element which is outside of this class
+	private static StackTraceElement getCaller() {
+		StackTraceElement stack[] = new Throwable().getStackTrace();
+		String logClass = Log.class.getName();
+		for (StackTraceElement element : stack) {
+			String className = element.getClassName();
+			if (!className.equals(logClass)
+					&& !className.startsWith(logClass + "$")) {
+				return element;
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Creates a log message with available {@link Level}
 	 * 
 	 * @param msg Message text
 	 */
 	public static void log(eAvailableLevels level, String msg) {
-		applyLogRec(getRecordForLog(level, msg));
+		applyLogRec(level, msg, null, null);
 	}
 
     /**
@@ -221,7 +390,7 @@ public class Log {
      * @param attached attached file {@link File}
      */	
 	public static void log(eAvailableLevels level, String msg, File attached) {
-		applyLogRec(getRecordForLog(level, msg), attached);
+		applyLogRec(level, msg, null, attached);
 	}
 
     /**
@@ -232,7 +401,7 @@ public class Log {
      * @param t Some {@link Throwable}
      */		
 	public static void log(eAvailableLevels level, String msg, Throwable t) {
-		applyLogRec(setThrown(getRecordForLog(level, msg), t));
+		applyLogRec(level, msg, t, null);
 	}
 
     /**
@@ -245,7 +414,59 @@ public class Log {
      */		
 	public static void log(eAvailableLevels level, String msg, Throwable t,
 			File attached) {
-		applyLogRec(setThrown(getRecordForLog(level, msg), t), attached);
+		applyLogRec(level, msg, t, attached);
+	}
+
+    /**
+     * Creates a log message with the given {@link Level}.
+     * The message text is built only if this level is enabled
+     * 
+     * @param level is the level of the message
+     * @param msgSupplier returns message text
+     */
+	public static void log(eAvailableLevels level, Supplier<String> msgSupplier) {
+		applyLogRec(level, msgSupplier, null, null);
+	}
+
+    /**
+     * Creates a log message with the given {@link Level} and
+     * attached file.
+     * The message text is built only if this level is enabled
+     * 
+     * @param level is the level of the message
+     * @param msgSupplier returns message text
+     * @param attached attached {@link File}
+     */
+	public static void log(eAvailableLevels level, Supplier<String> msgSupplier, File attached) {
+		applyLogRec(level, msgSupplier, null, attached);
+	}
+
+    /**
+     * Creates a log message with the given {@link Level} and
+     * throwable instance.
+     * The message text is built only if this level is enabled
+     * 
+     * @param level is the level of the message
+     * @param msgSupplier returns message text
+     * @param t Some {@link Throwable}
+     */
+	public static void log(eAvailableLevels level, Supplier<String> msgSupplier, Throwable t) {
+		applyLogRec(level, msgSupplier, t, null);
+	}
+
+    /**
+     * Creates a log message with the given {@link Level},
+     * attached file and throwable instance.
+     * The message text is built only if this level is enabled
+     * 
+     * @param level is the level of the message
+     * @param msgSupplier returns message text
+     * @param t Some {@link Throwable}
+     * @param attached attached {@link File}
+     */
+	public static void log(eAvailableLevels level, Supplier<String> msgSupplier, Throwable t,
+			File attached) {
+		applyLogRec(level, msgSupplier, t, attached);
 	}
 
 	/**
@@ -254,7 +475,7 @@ public class Log {
 	 * @param msg Message text
 	 */	
 	public static void message(String msg) {
-		applyLogRec(getRecordForLog(eAvailableLevels.INFO, msg));
+		applyLogRec(eAvailableLevels.INFO, msg, null, null);
 	}
 
     /**
@@ -265,7 +486,7 @@ public class Log {
      * @param attached attached file {@link File}
      */		
 	public static void message(String msg, File attached) {
-		applyLogRec(getRecordForLog(eAvailableLevels.INFO, msg), attached);
+		applyLogRec(eAvailableLevels.INFO, msg, null, attached);
 	}
 
     /**
@@ -276,7 +497,7 @@ public class Log {
      * @param t Some {@link Throwable}
      */	
 	public static void message(String msg, Throwable t) {
-		applyLogRec(setThrown(getRecordForLog(eAvailableLevels.INFO, msg), t));
+		applyLogRec(eAvailableLevels.INFO, msg, t, null);
 	}
 
     /**
@@ -288,8 +509,55 @@ public class Log {
      * @param attached attached {@link File}
      */		
 	public static void message(String msg, Throwable t, File attached) {
-		applyLogRec(setThrown(getRecordForLog(eAvailableLevels.INFO, msg), t),
-				attached);
+		applyLogRec(eAvailableLevels.INFO, msg, t, attached);
+	}
+
+    /**
+     * Creates a log message with INFO {@link Level}.
+     * The message text is built only if this level is enabled
+     * 
+     * @param msgSupplier returns message text
+     */
+	public static void message(Supplier<String> msgSupplier) {
+		applyLogRec(eAvailableLevels.INFO, msgSupplier, null, null);
+	}
+
+    /**
+     * Creates a log message with INFO {@link Level} and
+     * attached file.
+     * The message text is built only if this level is enabled
+     * 
+     * @param msgSupplier returns message text
+     * @param attached attached {@link File}
+     */
+	public static void message(Supplier<String> msgSupplier, File attached) {
+		applyLogRec(eAvailableLevels.INFO, msgSupplier, null, attached);
+	}
+
+    /**
+     * Creates a log message with INFO {@link Level} and
+     * throwable instance.
+     * The message text is built only if this level is enabled
+     * 
+     * @param msgSupplier returns message text
+     * @param t Some {@link Throwable}
+     */
+	public static void message(Supplier<String> msgSupplier, Throwable t) {
+		applyLogRec(eAvailableLevels.INFO, msgSupplier, t, null);
+	}
+
+    /**
+     * Creates a log message with INFO {@link Level},
+     * attached file and throwable instance.
+     * The message text is built only if this level is enabled
+     * 
+     * @param msgSupplier returns message text
+     * @param t Some {@link Throwable}
+     * @param attached attached {@link File}
+     */
+	public static void message(Supplier<String> msgSupplier, Throwable t,
+			File attached) {
+		applyLogRec(eAvailableLevels.INFO, msgSupplier, t, attached);
 	}
 
 	/**
@@ -317,18 +585,13 @@ public class Log {
 		return commonLevel;
 	}
 
-	private static LogRecWithAttach setThrown(LogRecWithAttach rec, Throwable t) {
-		rec.setThrown(t);
-		return rec;
-	}
-
 	/**
 	 * Creates a log message with WARNING {@link Level}
 	 * 
 	 * @param msg Message text
 	 */	
 	public static void warning(String msg) {
-		applyLogRec(getRecordForLog(eAvailableLevels.WARN, msg));
+		applyLogRec(eAvailableLevels.WARN, msg, null, null);
 	}
 
     /**
@@ -339,7 +602,7 @@ public class Log {
      * @param attached attached file {@link File}
      */		
 	public static void warning(String msg, File attached) {
-		applyLogRec(getRecordForLog(eAvailableLevels.WARN, msg), attached);
+		applyLogRec(eAvailableLevels.WARN, msg, null, attached);
 	}
 
     /**
@@ -350,7 +613,7 @@ public class Log {
      * @param t Some {@link Throwable}
      */		
 	public static void warning(String msg, Throwable t) {
-		applyLogRec(setThrown(getRecordForLog(eAvailableLevels.WARN, msg), t));
+		applyLogRec(eAvailableLevels.WARN, msg, t, null);
 	}
 
     /**
@@ -362,25 +625,73 @@ public class Log {
      * @param attached attached {@link File}
      */		
 	public static void warning(String msg, Throwable t, File attached) {
-		applyLogRec(setThrown(getRecordForLog(eAvailableLevels.WARN, msg), t),
-				attached);
+		applyLogRec(eAvailableLevels.WARN, msg, t, attached);
+	}
+
+    /**
+     * Creates a log message with WARNING {@link Level}.
+     * The message text is built only if this level is enabled
+     * 
+     * @param msgSupplier returns message text
+     */
+	public static void warning(Supplier<String> msgSupplier) {
+		applyLogRec(eAvailableLevels.WARN, msgSupplier, null, null);
+	}
+
+    /**
+     * Creates a log message with WARNING {@link Level} and
+     * attached file.
+     * The message text is built only if this level is enabled
+     * 
+     * @param msgSupplier returns message text
+     * @param attached attached {@link File}
+     */
+	public static void warning(Supplier<String> msgSupplier, File attached) {
+		applyLogRec(eAvailableLevels.WARN, msgSupplier, null, attached);
 	}
 
-	private final static int levelUp = 3;
+    /**
+     * Creates a log message with WARNING {@link Level} and
+     * throwable instance.
+     * The message text is built only if this level is enabled
+     * 
+     * @param msgSupplier returns message text
+     * @param t Some {@link Throwable}
+     */
+	public static void warning(Supplier<String> msgSupplier, Throwable t) {
+		applyLogRec(eAvailableLevels.WARN, msgSupplier, t, null);
+	}
+
+    /**
+     * Creates a log message with WARNING {@link Level},
+     * attached file and throwable instance.
+     * The message text is built only if this level is enabled
+     * 
+     * @param msgSupplier returns message text
+     * @param t Some {@link Throwable}
+     * @param attached attached {@link File}
+     */
+	public static void warning(Supplier<String> msgSupplier, Throwable t,
+			File attached) {
+		applyLogRec(eAvailableLevels.WARN, msgSupplier, t, attached);
+	}
 
 	private final static Level info = Level.INFO;
 
-	private static Level commonLevel = resetLogLevel(Configuration.byDefault
+	private static volatile Level commonLevel = resetLogLevel(Configuration.byDefault
 			.getSection(LoggingHelper.class).getLevel());
 
+	private static final boolean toResolveCallers = Configuration.byDefault
+			.getSection(LoggingHelper.class).getToResolveCallers();
+
 	private static Logger log = Logger.getAnonymousLogger();
 	
-	private static long sequence = 0;
+	private static final AtomicLong sequence = new AtomicLong();
 
 	private static final List<ILogConverter> converters = Collections
 			.synchronizedList(new LinkedList<ILogConverter>());
 
-	private static final ILogConverter converting = (ILogConverter) Proxy
+	private static final ILogConverter broadcasting = (ILogConverter) Proxy
 			.newProxyInstance(ILogConverter.class.getClassLoader(),
 					new Class[] { ILogConverter.class },
 					(proxy, method, args) -> {
@@ -388,4 +699,12 @@ public class Log {
 							method.invoke(sender, args);
 						return null;
 					});
+
+	private static final AsyncConverting asyncConverting = Configuration.byDefault
+			.getSection(LoggingHelper.class).getIsAsync() ? new AsyncConverting(
+			broadcasting, Configuration.byDefault.getSection(LoggingHelper.class)
+					.getMaxBatchSize()) : null;
+
+	private static final ILogConverter converting = asyncConverting != null ? asyncConverting
+			: broadcasting;
 }
@@ -20,6 +20,18 @@ import com.github.arachnidium.util.configuration.Group;
  * &nbsp;&nbsp;"Level":{<br/>
  * &nbsp;&nbsp;&nbsp;&nbsp;"type":"STRING",<br/>
  * &nbsp;&nbsp;&nbsp;&nbsp;"value":"some level designation"<br/>           
+ * &nbsp;&nbsp;},<br/>      
+ * &nbsp;&nbsp;"toResolveCallers":{<br/>
+ * &nbsp;&nbsp;&nbsp;&nbsp;"type":"BOOL",<br/>
+ * &nbsp;&nbsp;&nbsp;&nbsp;"value":"true or false"<br/>           
+ * &nbsp;&nbsp;},<br/>      
+ * &nbsp;&nbsp;"isAsync":{<br/>
+ * &nbsp;&nbsp;&nbsp;&nbsp;"type":"BOOL",<br/>
+ * &nbsp;&nbsp;&nbsp;&nbsp;"value":"true or false"<br/>           
+ * &nbsp;&nbsp;},<br/>      
+ * &nbsp;&nbsp;"maxBatchSize":{<br/>
+ * &nbsp;&nbsp;&nbsp;&nbsp;"type":"INT",<br/>
+ * &nbsp;&nbsp;&nbsp;&nbsp;"value":"some positive number"<br/>           
  * &nbsp;&nbsp;}<br/>      
  *}<br/>
  * ...<br/>
@@ -45,4 +57,47 @@ class LoggingHelper extends AbstractConfigurationAccessHelper {
 		else
 			return null;
 	}
+
+	/**
+	 * @return <code>true</code> if the class and the method which create a log 
+	 * message should be detected. It requires the stack trace and it is 
+	 * performed only when the message is not filtered by the level. Default
+	 * value is <code>true</code>
+	 */
+	@Setting(setting = "toResolveCallers")
+	public boolean getToResolveCallers() {
+		Boolean toResolve = getSetting();
+		if (toResolve != null)
+			return toResolve;
+		else
+			return true;
+	}
+
+	/**
+	 * @return <code>true</code> if log messages should be passed to
+	 * {@link ILogConverter}s by the background thread. Default value is 
+	 * <code>false</code>
+	 */
+	@Setting(setting = "isAsync")
+	public boolean getIsAsync() {
+		Boolean isAsync = getSetting();
+		if (isAsync != null)
+			return isAsync;
+		else
+			return false;
+	}
+
+	/**
+	 * @return the max count of messages which are passed to 
+	 * {@link ILogConverter#convertBatch(java.util.List)} at once. Default value
+	 * is 64
+	 */
+	@Setting(setting = "maxBatchSize")
+	public int getMaxBatchSize() {
+		Integer maxBatchSize = getSetting();
+		if (maxBatchSize != null && maxBatchSize > 0)
+			return maxBatchSize;
+		else
+			return 64;
+	}
 }
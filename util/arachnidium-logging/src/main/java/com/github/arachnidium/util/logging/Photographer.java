@@ -1,19 +1,26 @@
 package com.github.arachnidium.util.logging;
 
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
-import java.util.UUID;
+import java.util.List;
+import java.util.function.Function;
 import java.util.logging.Level;
 
 import javax.imageio.ImageIO;
+
+import com.github.arachnidium.util.configuration.Configuration;
+import com.github.arachnidium.util.logging.ScreenShotRecorder.RecordedPicture;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 
 /**
- * Takes screenshots by {@link WebDriver} instance
+ * Takes screenshots by {@link WebDriver} instance.
+ * Identical screenshots can be stored once, see {@link ScreenShotStore}
  */
 public final class Photographer {
 	private static Photographer get() {
@@ -35,6 +42,53 @@ public final class Photographer {
 		pictureFolderNameByDefault = pathToFolder;
 	}
 
+	/**
+	 * Screenshots are written in background. This method
+	 * waits until all taken screenshots are written and indexed.
+	 */
+	public static void awaitWrittenPictures() {
+		store.flush();
+	}
+
+	/**
+	 * Stores screenshots which are kept in memory and attaches them to
+	 * new log messages. It makes sense when the "toKeepPicturesUntilFailure"
+	 * setting is on. Only screenshots of sessions which were used by the 
+	 * current thread are stored. So it is supposed to be invoked by the thread
+	 * which has run the failed test. Kept screenshots of the session are also 
+	 * stored when it takes a screenshot with {@link Level#SEVERE}. The 
+	 * application model invokes it when nobody has handled an exception.
+	 */
+	public static void saveRecordedPictures() {
+		if (recorder != null) {
+			save(recorder.takeOfThisThread());
+		}
+	}
+
+	/**
+	 * Discards screenshots which are kept in memory. Only screenshots of 
+	 * sessions which were used by the current thread are discarded. It is 
+	 * supposed to be invoked by the thread which has run the successful test.
+	 */
+	public static void discardRecordedPictures() {
+		if (recorder != null) {
+			recorder.discardOfThisThread();
+		}
+	}
+
+	private static void save(List<RecordedPicture> recordedPictures) {
+		String folder = get().folder;
+		for (RecordedPicture recorded : recordedPictures) {
+			File picForLog = store.store(folder,
+					Picture.ofBytes(recorded.bytes),
+					recorded.area, recorded.level, recorded.comment);
+			if (picForLog != null) {
+				Log.log(recorded.level, "The recorded picture. "
+						+ recorded.comment, picForLog);
+			}
+		}
+	}
+
 	/**
 	 *  takes pictures of full browser windows
 	 * @param driver an instance of {@link WebDriver} 
@@ -44,10 +98,56 @@ public final class Photographer {
 	 */
 	public static void takeAPictureForLog(WebDriver driver,
 			eAvailableLevels LogLevel, String comment) {
+		takeAPictureForLog(driver, LogLevel, comment, null);
+	}
+
+	/**
+	 *  takes pictures of full browser windows and transforms them
+	 *  (crops, scales etc.) before they are stored
+	 * @param driver an instance of {@link WebDriver} 
+	 * @param LogLevel A {@link Level} of the log message. To this message file will be 
+	 * attached
+	 * @param comment Narrative message text
+	 * @param transformation is the function which transforms the taken picture.
+	 * The picture is decoded only if the transformation is defined. If it is
+	 * <code>null</code> then the received PNG is stored as is
+	 */
+	public static void takeAPictureForLog(WebDriver driver,
+			eAvailableLevels LogLevel, String comment,
+			Function<BufferedImage, BufferedImage> transformation) {
+		takeAPictureForLog(driver, LogLevel, comment, transformation, null);
+	}
+
+	/**
+	 *  takes pictures of full browser windows and crops them to the given
+	 *  area. Pictures are cropped in background
+	 * @param driver an instance of {@link WebDriver} 
+	 * @param LogLevel A {@link Level} of the log message. To this message file will be 
+	 * attached
+	 * @param comment Narrative message text
+	 * @param area is the area of the picture (pixels) which should be stored
+	 */
+	public static void takeAPictureOfAnArea(WebDriver driver,
+			eAvailableLevels LogLevel, String comment, Rectangle area) {
+		takeAPictureForLog(driver, LogLevel, comment, null, area);
+	}
+
+	private static void takeAPictureForLog(WebDriver driver,
+			eAvailableLevels LogLevel, String comment,
+			Function<BufferedImage, BufferedImage> transformation,
+			Rectangle area) {
+		if (!Log.isLoggable(LogLevel)) {
+			return; // the message would be filtered anyway
+		}
 		Photographer photographer = get();
 		try {
-			BufferedImage imageForLog = photographer.takeAPicture(driver);
-			photographer.makeFileForLog(imageForLog, LogLevel, comment);
+			Picture picture = photographer.takeAPicture(driver);
+			if (transformation != null) {
+				picture = Picture.ofBytes(transform(picture.getBytes(),
+						transformation));
+			}
+			photographer.makeFileForLog(driver, picture, area, LogLevel,
+					comment);
 		} catch (IOException e) {
 			Log.warning("Can't post a picture to log! " + e.getMessage());
 			Log.log(LogLevel, comment);
@@ -59,6 +159,31 @@ public final class Photographer {
 		}
 	}
 
+	/**
+	 * Takes a picture and compares it with the baseline. The picture is not
+	 * written anywhere.
+	 * 
+	 * @param driver an instance of {@link WebDriver}
+	 * @param area is the area of the picture (pixels) which should be compared.
+	 * If it is <code>null</code> then the whole picture is compared
+	 * @param baseline is the file of the expected picture
+	 * @return the {@link ImageDifference}
+	 * @see ImageComparator
+	 */
+	public static ImageDifference compareWithBaseline(WebDriver driver,
+			Rectangle area, File baseline) {
+		try {
+			BufferedImage image = decode(get().takeAPicture(driver)
+					.getBytes());
+			if (area != null) {
+				image = crop(image, area);
+			}
+			return ImageComparator.compare(image, baseline);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
 	/**
 	 * Creates a log message with the FINE {@link Level} and
 	 * attached screenshot
@@ -100,13 +225,29 @@ public final class Photographer {
 		takeAPictureForLog(driver, eAvailableLevels.WARN, comment);
 	}
 
-	private final static String pictureNameByDefault = "picture";
-
 	// in case if there is no customized settings for picture storing
 	private static String pictureFolderNameByDefault = "Imgs" + File.separator; 
 
 	public static final String format = "png";
 
+	private static final ScreenShotStore store;
+	private static final ScreenShotRecorder recorder;
+	static {
+		PhotographerHelper helper = Configuration.byDefault
+				.getSection(PhotographerHelper.class);
+		store = new ScreenShotStore(new ScreenShotWriter(
+				helper.getWritingThreads(), helper.getWritingQueueCapacity(),
+				helper.getWhenWritingQueueIsFull()),
+				helper.getToDeduplicate());
+		if (helper.getToKeepPicturesUntilFailure()) {
+			recorder = new ScreenShotRecorder(
+					helper.getKeptPicturesPerSession(),
+					helper.getKeptBytesPerSession());
+		} else {
+			recorder = null;
+		}
+	}
+
 	private static final ThreadLocal<Photographer> photographerThreadLocal = new ThreadLocal<Photographer>();
 
 	private String folder = pictureFolderNameByDefault;
@@ -115,54 +256,66 @@ public final class Photographer {
 		super();
 	}
 
-	private BufferedImage getBufferedImage(byte[] original) throws IOException {
-		BufferedImage buffer = null;
-		try {
-			buffer = ImageIO.read(new ByteArrayInputStream(original));
-			return buffer;
-		} catch (IOException e) {
-			e.printStackTrace();
-			throw e;
+	private static BufferedImage decode(byte[] original) throws IOException {
+		BufferedImage image = ImageIO.read(new ByteArrayInputStream(original));
+		if (image == null) {
+			throw new IOException("The picture can't be decoded");
 		}
+		return image;
 	}
 
-	private BufferedImage getImageFromDriver(WebDriver driver)
+	private static byte[] transform(byte[] original,
+			Function<BufferedImage, BufferedImage> transformation)
 			throws IOException {
-		byte[] bytes = ((TakesScreenshot) driver)
-					.getScreenshotAs(OutputType.BYTES);
-		BufferedImage buffer = getBufferedImage(bytes);
-		return buffer;
+		BufferedImage image = decode(original);
+		ByteArrayOutputStream result = new ByteArrayOutputStream(
+				original.length);
+		ImageIO.write(transformation.apply(image), format, result);
+		return result.toByteArray();
 	}
 
-	// applies images
-	private synchronized void makeFileForLog(BufferedImage imageForLog,
-			eAvailableLevels LogLevel, String comment) {
-
-		String FolderPath = folder;
+	// crops the picture to the given area. The area is limited by the picture
+	static byte[] crop(byte[] original, Rectangle area) throws IOException {
+		return transform(original, image -> crop(image, area));
+	}
 
-		File ImgFolder = new File(FolderPath);
-		ImgFolder.mkdirs();
+	private static BufferedImage crop(BufferedImage image, Rectangle area) {
+		Rectangle bounds = area.intersection(new Rectangle(0, 0, image
+				.getWidth(), image.getHeight()));
+		if (bounds.isEmpty()) {
+			return image;
+		}
+		return image.getSubimage(bounds.x, bounds.y, bounds.width,
+				bounds.height);
+	}
 
-		File picForLog = new File(FolderPath + pictureNameByDefault + '_'
-				+ UUID.randomUUID().toString() + "." + format);
-		try {
-			ImageIO.write(imageForLog, format, picForLog);
+	// the log message is created at once. The picture is written
+	// in background or it is kept in memory until something goes wrong
+	private void makeFileForLog(WebDriver driver, Picture pictureForLog,
+			Rectangle area, eAvailableLevels LogLevel, String comment) {
+		if (recorder != null && LogLevel != eAvailableLevels.SEVERE) {
+			recorder.record(driver, pictureForLog, area, LogLevel, comment);
+			Log.log(LogLevel, comment);
+			return;
+		}
+		if (recorder != null) {
+			// what happened to this session before
+			save(recorder.take(driver));
+		}
+		File picForLog = store.store(folder, pictureForLog, area, LogLevel,
+				comment);
+		if (picForLog != null) {
 			Log.log(LogLevel, comment, picForLog);
-		} catch (IOException e) {
-			Log.warning("Can't take a screenshot! " + e.getMessage());
+		} else {
+			Log.log(LogLevel, comment);
 		}
 	}
 
-	// takes pictures and makes buffered images
-	private synchronized BufferedImage takeAPicture(WebDriver driver)
-			throws IOException, 
-			UnsupportedOperationException {
-		try {
-			return getImageFromDriver(driver);
-		} catch (UnsupportedOperationException e) {
-			throw e;
-		} catch (IOException e2) {
-			throw e2;
-		}
+	// takes pictures as base64 strings which are received from drivers.
+	// They are decoded at once and only bytes are kept
+	private synchronized Picture takeAPicture(WebDriver driver)
+			throws UnsupportedOperationException {
+		return Picture.ofBase64(((TakesScreenshot) driver)
+				.getScreenshotAs(OutputType.BASE64));
 	}
 }
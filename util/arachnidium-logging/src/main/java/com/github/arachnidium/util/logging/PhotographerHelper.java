@@ -0,0 +1,152 @@
+package com.github.arachnidium.util.logging;
+
+import com.github.arachnidium.util.configuration.AbstractConfigurationAccessHelper;
+import com.github.arachnidium.util.configuration.Configuration;
+import com.github.arachnidium.util.configuration.Group;
+
+/**
+ * Stores the settings of the background writing and storing of screenshots
+ * 
+ * Specification:
+ * 
+ * <p><br/>
+ * ...<br/>
+ * "screenShots":<br/>
+ * {<br/>
+ * &nbsp;&nbsp;"writingThreads":{<br/>
+ * &nbsp;&nbsp;&nbsp;&nbsp;"type":"INT",<br/>
+ * &nbsp;&nbsp;&nbsp;&nbsp;"value":"some positive number"<br/>           
+ * &nbsp;&nbsp;},<br/>      
+ * &nbsp;&nbsp;"writingQueueCapacity":{<br/>
+ * &nbsp;&nbsp;&nbsp;&nbsp;"type":"INT",<br/>
+ * &nbsp;&nbsp;&nbsp;&nbsp;"value":"some positive number"<br/>           
+ * &nbsp;&nbsp;},<br/>      
+ * &nbsp;&nbsp;"whenWritingQueueIsFull":{<br/>
+ * &nbsp;&nbsp;&nbsp;&nbsp;"type":"ENUM",<br/>
+ * &nbsp;&nbsp;&nbsp;&nbsp;"class":"com.github.arachnidium.util.logging.eScreenShotQueuePolicy",<br/>
+ * &nbsp;&nbsp;&nbsp;&nbsp;"value":"BLOCK or DROP_NON_SEVERE"<br/>           
+ * &nbsp;&nbsp;},<br/>      
+ * &nbsp;&nbsp;"toDeduplicate":{<br/>
+ * &nbsp;&nbsp;&nbsp;&nbsp;"type":"BOOL",<br/>
+ * &nbsp;&nbsp;&nbsp;&nbsp;"value":"true or false"<br/>           
+ * &nbsp;&nbsp;},<br/>      
+ * &nbsp;&nbsp;"toKeepPicturesUntilFailure":{<br/>
+ * &nbsp;&nbsp;&nbsp;&nbsp;"type":"BOOL",<br/>
+ * &nbsp;&nbsp;&nbsp;&nbsp;"value":"true or false"<br/>           
+ * &nbsp;&nbsp;},<br/>      
+ * &nbsp;&nbsp;"keptPicturesPerSession":{<br/>
+ * &nbsp;&nbsp;&nbsp;&nbsp;"type":"INT",<br/>
+ * &nbsp;&nbsp;&nbsp;&nbsp;"value":"some positive number"<br/>           
+ * &nbsp;&nbsp;},<br/>      
+ * &nbsp;&nbsp;"keptBytesPerSession":{<br/>
+ * &nbsp;&nbsp;&nbsp;&nbsp;"type":"LONG",<br/>
+ * &nbsp;&nbsp;&nbsp;&nbsp;"value":"some positive number"<br/>           
+ * &nbsp;&nbsp;}<br/>      
+ *}<br/>
+ * ...<br/>
+ * 
+  @see Configuration
+ *@see Photographer
+ */
+@Group(settingGroup = "screenShots")
+class PhotographerHelper extends AbstractConfigurationAccessHelper {
+
+	protected PhotographerHelper(Configuration configuration, String group) {
+		super(configuration, group);
+	}
+
+	/**
+	 * @return the count of threads which write screenshots. Default value
+	 * is 2
+	 */
+	@Setting(setting = "writingThreads")
+	public int getWritingThreads() {
+		Integer threads = getSetting();
+		if (threads != null && threads > 0)
+			return threads;
+		else
+			return 2;
+	}
+
+	/**
+	 * @return the max count of screenshots which are waiting to be written.
+	 * Default value is 64
+	 */
+	@Setting(setting = "writingQueueCapacity")
+	public int getWritingQueueCapacity() {
+		Integer capacity = getSetting();
+		if (capacity != null && capacity > 0)
+			return capacity;
+		else
+			return 64;
+	}
+
+	/**
+	 * @return what to do when the queue of screenshots is full.
+	 * Default value is {@link eScreenShotQueuePolicy#BLOCK}
+	 */
+	@Setting(setting = "whenWritingQueueIsFull")
+	public eScreenShotQueuePolicy getWhenWritingQueueIsFull() {
+		eScreenShotQueuePolicy policy = getSetting();
+		if (policy != null)
+			return policy;
+		else
+			return eScreenShotQueuePolicy.BLOCK;
+	}
+
+	/**
+	 * @return <code>true</code> if screenshots should be named by the hash
+	 * of their content so identical screenshots are written once. Default
+	 * value is <code>false</code>: each screenshot gets its own random name
+	 */
+	@Setting(setting = "toDeduplicate")
+	public boolean getToDeduplicate() {
+		Boolean toDeduplicate = getSetting();
+		if (toDeduplicate != null)
+			return toDeduplicate;
+		else
+			return false;
+	}
+
+	/**
+	 * @return <code>true</code> if screenshots of messages which are not
+	 * SEVERE should be kept in memory. They are stored when the session takes
+	 * a SEVERE screenshot or when the failed test invokes
+	 * {@link Photographer#saveRecordedPictures()}. Default value is 
+	 * <code>false</code>
+	 */
+	@Setting(setting = "toKeepPicturesUntilFailure")
+	public boolean getToKeepPicturesUntilFailure() {
+		Boolean toKeep = getSetting();
+		if (toKeep != null)
+			return toKeep;
+		else
+			return false;
+	}
+
+	/**
+	 * @return the max count of screenshots which are kept in memory for each
+	 * session. Default value is 20
+	 */
+	@Setting(setting = "keptPicturesPerSession")
+	public int getKeptPicturesPerSession() {
+		Integer count = getSetting();
+		if (count != null && count > 0)
+			return count;
+		else
+			return 20;
+	}
+
+	/**
+	 * @return the max total size (bytes) of screenshots which are kept in 
+	 * memory for each session. Default value is 64 MB
+	 */
+	@Setting(setting = "keptBytesPerSession")
+	public long getKeptBytesPerSession() {
+		Long bytes = getSetting();
+		if (bytes != null && bytes > 0)
+			return bytes;
+		else
+			return 64L * 1024 * 1024;
+	}
+}
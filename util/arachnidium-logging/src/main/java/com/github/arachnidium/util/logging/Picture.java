@@ -0,0 +1,55 @@
+package com.github.arachnidium.util.logging;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * The content of a screenshot. Remote drivers send screenshots
+ * as base64 strings. Such strings are decoded once when the picture
+ * is taken, so only PNG bytes are kept while the picture waits to be
+ * written or recorded.
+ */
+final class Picture {
+	private final byte[] bytes;
+
+	private Picture(byte[] bytes) {
+		this.bytes = bytes;
+	}
+
+	static Picture ofBytes(byte[] bytes) {
+		return new Picture(bytes);
+	}
+
+	// the String is not kept. It takes about 2.67 times more memory than
+	// decoded bytes on Java 8
+	static Picture ofBase64(String text) {
+		return new Picture(Base64.getMimeDecoder().decode(text));
+	}
+
+	/**
+	 * @return decoded PNG content
+	 */
+	byte[] getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * Passes the content to the given digest
+	 */
+	void hashTo(MessageDigest digest) {
+		digest.update(bytes);
+	}
+
+	/**
+	 * Writes PNG content to the given channel
+	 */
+	void writeTo(WritableByteChannel channel) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+}
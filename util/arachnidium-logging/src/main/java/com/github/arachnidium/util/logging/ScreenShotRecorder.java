@@ -0,0 +1,123 @@
+package com.github.arachnidium.util.logging;
+
+import java.awt.Rectangle;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps the last screenshots of each session in memory as PNG byte arrays.
+ * The count and the total size of kept screenshots are limited. The oldest screenshots are
+ * discarded when limits are reached.<br/>
+ * <br/>
+ * Kept screenshots are supposed to be stored when something goes wrong.
+ */
+final class ScreenShotRecorder {
+	/**
+	 * The screenshot which is kept in memory
+	 */
+	static final class RecordedPicture {
+		final byte[] bytes;
+		final Rectangle area;
+		final eAvailableLevels level;
+		final String comment;
+
+		private RecordedPicture(byte[] bytes, Rectangle area,
+				eAvailableLevels level, String comment) {
+			this.bytes = bytes;
+			this.area = area;
+			this.level = level;
+			this.comment = comment;
+		}
+	}
+
+	private static class Ring {
+		private final ArrayDeque<RecordedPicture> pictures = new ArrayDeque<>();
+		private long bytes;
+	}
+
+	// sessions are not held when they are not used anymore
+	private final Map<Object, Ring> rings = Collections
+			.synchronizedMap(new WeakHashMap<Object, Ring>());
+	// sessions which pictures were recorded by the current thread
+	private final ThreadLocal<Set<Object>> sessionsOfThread = ThreadLocal
+			.withInitial(() -> Collections
+					.newSetFromMap(new WeakHashMap<Object, Boolean>()));
+	private final int maxPictures;
+	private final long maxBytes;
+
+	ScreenShotRecorder(int maxPictures, long maxBytes) {
+		this.maxPictures = maxPictures;
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Keeps the picture. The oldest pictures of the session
+	 * are discarded if limits are reached
+	 */
+	void record(Object session, Picture picture, Rectangle area,
+			eAvailableLevels level, String comment) {
+		byte[] bytes = picture.getBytes();
+		if (bytes.length > maxBytes) {
+			return;
+		}
+		RecordedPicture recorded = new RecordedPicture(bytes, area,
+				level, comment);
+		sessionsOfThread.get().add(session);
+		synchronized (rings) {
+			Ring ring = rings.get(session);
+			if (ring == null) {
+				ring = new Ring();
+				rings.put(session, ring);
+			}
+			ring.pictures.addLast(recorded);
+			ring.bytes += bytes.length;
+			while (ring.pictures.size() > maxPictures || ring.bytes > maxBytes) {
+				ring.bytes -= ring.pictures.removeFirst().bytes.length;
+			}
+		}
+	}
+
+	/**
+	 * @return kept pictures of the session in the order they were taken.
+	 * They are not kept anymore.
+	 */
+	List<RecordedPicture> take(Object session) {
+		Ring ring = rings.remove(session);
+		if (ring == null) {
+			return new ArrayList<>();
+		}
+		return new ArrayList<>(ring.pictures);
+	}
+
+	/**
+	 * @return kept pictures of sessions which were used by the current
+	 * thread. Pictures of each session are in the order they were taken.
+	 * They are not kept anymore.
+	 */
+	List<RecordedPicture> takeOfThisThread() {
+		List<RecordedPicture> result = new ArrayList<>();
+		Set<Object> sessions = sessionsOfThread.get();
+		for (Object session : new ArrayList<>(sessions)) {
+			result.addAll(take(session));
+		}
+		sessions.clear();
+		return result;
+	}
+
+	/**
+	 * Discards kept pictures of sessions which were used by the current
+	 * thread
+	 */
+	void discardOfThisThread() {
+		Set<Object> sessions = sessionsOfThread.get();
+		for (Object session : new ArrayList<>(sessions)) {
+			rings.remove(session);
+		}
+		sessions.clear();
+	}
+}
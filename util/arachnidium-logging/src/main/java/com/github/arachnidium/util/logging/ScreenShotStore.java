@@ -0,0 +1,179 @@
+package com.github.arachnidium.util.logging;
+
+import java.awt.Rectangle;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Stores screenshots. If the deduplication is turned on then each picture is
+ * named by the hash of its bytes. So identical pictures are written only once
+ * and log messages are attached to the same file. A file which is left by
+ * the previous run is reused only if it is the complete PNG. Otherwise each
+ * picture gets its own random name.<br/>
+ * <br/>
+ * Each folder has got the index file. Each line of it consists of the time
+ * of the message, the level, the name of the picture and the message text
+ * separated by tabs.
+ */
+final class ScreenShotStore {
+	/**
+	 * The name of the file which maps log messages to pictures
+	 */
+	static final String INDEX_FILE_NAME = "index.txt";
+	private static final String HASH_ALGORITHM = "SHA-1";
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+	private static final byte[] PNG_END = { 0, 0, 0, 0, 'I', 'E', 'N', 'D',
+			(byte) 0xAE, 0x42, 0x60, (byte) 0x82 };
+
+	private final ThreadLocal<MessageDigest> digests = ThreadLocal
+			.withInitial(() -> {
+				try {
+					return MessageDigest.getInstance(HASH_ALGORITHM);
+				} catch (NoSuchAlgorithmException e) {
+					throw new RuntimeException(e);
+				}
+			});
+	// files which are written or going to be written
+	private final ConcurrentMap<String, Boolean> knownFiles = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, BufferedWriter> indexes = new ConcurrentHashMap<>();
+	private final ScreenShotWriter writer;
+	private final boolean toDeduplicate;
+
+	ScreenShotStore(ScreenShotWriter writer, boolean toDeduplicate) {
+		this.writer = writer;
+		this.toDeduplicate = toDeduplicate;
+		Runtime.getRuntime().addShutdownHook(
+				new Thread(this::flushIndexes, "arachnidium-screenshot-indexing"));
+	}
+
+	/**
+	 * @param folder is the folder where the picture should be stored
+	 * @param picture is the screenshot content
+	 * @param area is the area the picture should be cropped to. It is
+	 * <code>null</code> if the whole picture should be stored
+	 * @param level is the level of the message which the picture is attached to
+	 * @param comment is the message text
+	 * @return the file which contains or is going to contain the picture.
+	 * <code>null</code> is returned if the picture was dropped
+	 */
+	File store(String folder, Picture picture, Rectangle area,
+			eAvailableLevels level, String comment) {
+		String name = (toDeduplicate ? hash(picture, area) : randomName()) + "."
+				+ Photographer.format;
+		File file = new File(folder + name);
+		String key = file.getAbsolutePath();
+		if (knownFiles.putIfAbsent(key, true) == null) {
+			if (isComplete(file)) {
+				// it was stored by the previous run
+			} else if (!writer.write(picture, area, file, level)) {
+				knownFiles.remove(key);
+				return null;
+			}
+		}
+		index(folder, level, name, comment);
+		return file;
+	}
+
+	/**
+	 * Waits until all pictures are written and flushes index files
+	 */
+	void flush() {
+		writer.drain();
+		flushIndexes();
+	}
+
+	private String hash(Picture picture, Rectangle area) {
+		MessageDigest digest = digests.get();
+		if (area != null) {
+			// the same picture can be cropped differently
+			digest.update(area.toString().getBytes(StandardCharsets.UTF_8));
+		}
+		picture.hashTo(digest);
+		byte[] hash = digest.digest();
+		char[] result = new char[hash.length * 2];
+		for (int i = 0; i < hash.length; i++) {
+			result[2 * i] = HEX[(hash[i] >> 4) & 0xF];
+			result[2 * i + 1] = HEX[hash[i] & 0xF];
+		}
+		return new String(result);
+	}
+
+	// the PNG ends with the IEND chunk: its length, type and CRC
+	private static boolean isComplete(File file) {
+		long length = file.length();
+		if (length < PNG_END.length) {
+			return false;
+		}
+		try (RandomAccessFile content = new RandomAccessFile(file, "r")) {
+			byte[] end = new byte[PNG_END.length];
+			content.seek(length - end.length);
+			content.readFully(end);
+			return Arrays.equals(end, PNG_END);
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	private static String randomName() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		return "picture_"
+				+ new UUID(random.nextLong(), random.nextLong()).toString();
+	}
+
+	private BufferedWriter getIndex(String folder) {
+		File indexFile = new File(folder + INDEX_FILE_NAME).getAbsoluteFile();
+		return indexes.computeIfAbsent(indexFile.getAbsolutePath(), path -> {
+			indexFile.getParentFile().mkdirs();
+			try {
+				return Files.newBufferedWriter(indexFile.toPath(),
+						StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+						StandardOpenOption.APPEND);
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		});
+	}
+
+	private void index(String folder, eAvailableLevels level, String name,
+			String comment) {
+		String line = System.currentTimeMillis() + "\t" + level.name() + "\t"
+				+ name + "\t"
+				+ String.valueOf(comment).replace('\n', ' ').replace('\r', ' ')
+						.replace('\t', ' ');
+		try {
+			BufferedWriter index = getIndex(folder);
+			synchronized (index) {
+				index.write(line);
+				index.newLine();
+			}
+		} catch (IOException | RuntimeException e) {
+			Log.debug("Can't index a screenshot " + name + "! "
+					+ e.getMessage());
+		}
+	}
+
+	private void flushIndexes() {
+		for (BufferedWriter index : indexes.values()) {
+			synchronized (index) {
+				try {
+					index.flush();
+				} catch (IOException e) {
+					Log.debug("Can't flush a screenshot index! "
+							+ e.getMessage());
+				}
+			}
+		}
+	}
+}
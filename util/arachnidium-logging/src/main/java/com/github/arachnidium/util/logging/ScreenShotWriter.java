@@ -0,0 +1,141 @@
+package com.github.arachnidium.util.logging;
+
+import java.awt.Rectangle;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes screenshots by the bounded pool of background threads.
+ * Screenshots are cropped by these threads too.
+ * The count of screenshots which are waiting to be written is limited.
+ * When the limit is reached screenshots are blocked or dropped according
+ * to {@link eScreenShotQueuePolicy}.<br/>
+ * <br/>
+ * All accepted screenshots are written before JVM exits.
+ */
+final class ScreenShotWriter {
+	private final ExecutorService executor;
+	private final Semaphore slots;
+	private final int capacity;
+	private final eScreenShotQueuePolicy policy;
+
+	ScreenShotWriter(int threads, int capacity, eScreenShotQueuePolicy policy) {
+		AtomicInteger threadNumber = new AtomicInteger();
+		this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "arachnidium-screenshot-writing-"
+					+ threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.capacity = capacity;
+		this.slots = new Semaphore(capacity);
+		this.policy = policy;
+		Runtime.getRuntime().addShutdownHook(
+				new Thread(this::shutdown, "arachnidium-screenshot-draining"));
+	}
+
+	/**
+	 * Accepts the picture which should be written.
+	 *
+	 * @param picture is the screenshot content
+	 * @param area is the area the picture should be cropped to before
+	 * it is written. It is <code>null</code> if the whole picture should
+	 * be written
+	 * @param file is the file where the picture should be written
+	 * @param level is the level of the message which the file is attached to
+	 * @return <code>false</code> if the picture was dropped
+	 */
+	boolean write(Picture picture, Rectangle area, File file,
+			eAvailableLevels level) {
+		if (policy == eScreenShotQueuePolicy.DROP_NON_SEVERE
+				&& level != eAvailableLevels.SEVERE) {
+			if (!slots.tryAcquire()) {
+				return false;
+			}
+		} else {
+			slots.acquireUninterruptibly();
+		}
+		try {
+			executor.execute(() -> {
+				try {
+					writeFile(crop(picture, area), file);
+				} finally {
+					slots.release();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			// JVM is shutting down
+			slots.release();
+			writeFile(crop(picture, area), file);
+		}
+		return true;
+	}
+
+	/**
+	 * Waits until all accepted pictures are written
+	 */
+	void drain() {
+		slots.acquireUninterruptibly(capacity);
+		slots.release(capacity);
+	}
+
+	private void shutdown() {
+		executor.shutdown();
+		try {
+			executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static Picture crop(Picture picture, Rectangle area) {
+		if (area == null) {
+			return picture;
+		}
+		try {
+			return Picture.ofBytes(Photographer.crop(picture.getBytes(), area));
+		} catch (IOException | RuntimeException e) {
+			Log.debug("Can't crop a screenshot! " + e.getMessage());
+			return picture;
+		}
+	}
+
+	// the picture is written to the temporary file which is renamed then.
+	// So the file with the given name is always complete
+	private static void writeFile(Picture picture, File file) {
+		File folder = file.getAbsoluteFile().getParentFile();
+		folder.mkdirs();
+		File temp = null;
+		try {
+			temp = File.createTempFile(file.getName(), null, folder);
+			try (FileChannel channel = FileChannel.open(temp.toPath(),
+					StandardOpenOption.WRITE)) {
+				picture.writeTo(channel);
+			}
+			try {
+				Files.move(temp.toPath(), file.toPath(),
+						StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp.toPath(), file.toPath(),
+						StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			Log.warning("Can't write a screenshot " + file.getAbsolutePath()
+					+ "! " + e.getMessage());
+			if (temp != null) {
+				temp.delete();
+			}
+		}
+	}
+}
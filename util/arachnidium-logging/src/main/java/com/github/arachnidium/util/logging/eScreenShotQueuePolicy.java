@@ -0,0 +1,19 @@
+package com.github.arachnidium.util.logging;
+
+/**
+ * Describes what to do when there are too many screenshots
+ * which are waiting to be written
+ */
+public enum eScreenShotQueuePolicy {
+	/**
+	 * A thread which has taken a screenshot waits until
+	 * there is a free place in the queue
+	 */
+	BLOCK,
+	/**
+	 * Screenshots of messages which have {@link eAvailableLevels#SEVERE}
+	 * are waiting for a free place in the queue. Other screenshots
+	 * are dropped and their messages are logged without attached files
+	 */
+	DROP_NON_SEVERE
+}
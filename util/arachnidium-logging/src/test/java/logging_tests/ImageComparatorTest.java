@@ -0,0 +1,91 @@
+package logging_tests;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import com.github.arachnidium.util.logging.ImageComparator;
+import com.github.arachnidium.util.logging.ImageDifference;
+
+public class ImageComparatorTest {
+	private static final int BLACK = 0xFF000000;
+
+	private static BufferedImage image(int width, int height, int color) {
+		BufferedImage image = new BufferedImage(width, height,
+				BufferedImage.TYPE_INT_ARGB);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				image.setRGB(x, y, color);
+			}
+		}
+		return image;
+	}
+
+	@AfterMethod
+	public void tearDown() {
+		ImageComparator.clearBaselines();
+	}
+
+	@Test
+	public void identicalImagesTest() {
+		ImageDifference difference = ImageComparator.compare(
+				image(200, 150, BLACK), image(200, 150, BLACK));
+		Assert.assertTrue(difference.isIdentical());
+		Assert.assertEquals(0, difference.getDifferentPixels());
+	}
+
+	@Test
+	public void differentPixelTest() {
+		BufferedImage actual = image(200, 150, BLACK);
+		actual.setRGB(130, 70, 0xFFFFFFFF);
+		ImageDifference difference = ImageComparator.compare(actual,
+				image(200, 150, BLACK));
+		Assert.assertEquals(1, difference.getDifferentPixels());
+		Assert.assertTrue(difference.getMask().getRGB(130, 70) != 0);
+		Assert.assertEquals(0, difference.getMask().getRGB(129, 70));
+	}
+
+	// sums like 31 * (31 + p0) + p1 are equal but pixels differ
+	@Test
+	public void collidingHashesTest() {
+		BufferedImage actual = image(2, 1, BLACK);
+		actual.setRGB(1, 0, BLACK + 31);
+		BufferedImage baseline = image(2, 1, BLACK);
+		baseline.setRGB(0, 0, BLACK + 1);
+		ImageDifference difference = ImageComparator.compare(actual,
+				baseline);
+		Assert.assertEquals(2, difference.getDifferentPixels());
+	}
+
+	@Test
+	public void differentSizesTest() {
+		ImageDifference difference = ImageComparator.compare(
+				image(10, 10, BLACK), image(10, 12, BLACK));
+		Assert.assertEquals(20, difference.getDifferentPixels());
+		Assert.assertEquals(12, difference.getMask().getHeight());
+	}
+
+	@Test
+	public void changedBaselineTest() throws IOException {
+		File baseline = File.createTempFile("baseline", ".png");
+		baseline.deleteOnExit();
+		BufferedImage actual = image(100, 100, BLACK);
+
+		ImageIO.write(image(100, 100, BLACK), "png", baseline);
+		Assert.assertTrue(ImageComparator.compare(actual, baseline)
+				.isIdentical());
+
+		// the cached baseline is not used anymore
+		long lastModified = baseline.lastModified();
+		ImageIO.write(image(100, 100, 0xFFFFFFFF), "png", baseline);
+		baseline.setLastModified(lastModified + 2000);
+		Assert.assertEquals(10000, ImageComparator.compare(actual, baseline)
+				.getDifferentPixels());
+	}
+}
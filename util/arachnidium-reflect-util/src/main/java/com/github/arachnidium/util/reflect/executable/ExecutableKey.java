@@ -0,0 +1,46 @@
+package com.github.arachnidium.util.reflect.executable;
+
+import java.util.Arrays;
+
+/**
+ * This is the key of resolved executables which are cached by
+ * {@link ExecutableUtil} for each class. The name is <code>null</code> for
+ * constructors. <code>null</code> elements of the argument class
+ * array mark arguments whose values were <code>null</code>
+ */
+final class ExecutableKey {
+	private final String name;
+	private final Class<?>[] argClasses;
+	private final int hash;
+
+	ExecutableKey(String name, Object[] argValues) {
+		this.name = name;
+		argClasses = new Class<?>[argValues.length];
+		for (int i = 0; i < argValues.length; i++) {
+			if (argValues[i] != null) {
+				argClasses[i] = argValues[i].getClass();
+			}
+		}
+		int h = name == null ? 0 : name.hashCode();
+		hash = 31 * h + Arrays.hashCode(argClasses);
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof ExecutableKey)) {
+			return false;
+		}
+		ExecutableKey other = (ExecutableKey) obj;
+		return hash == other.hash
+				&& (name == null ? other.name == null : name.equals(other.name))
+				&& Arrays.equals(argClasses, other.argClasses);
+	}
+}
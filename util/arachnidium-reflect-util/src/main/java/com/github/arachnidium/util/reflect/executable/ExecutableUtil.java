@@ -7,6 +7,9 @@ import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * This class works with {@link Executable} implementations e.g. 
@@ -31,6 +34,20 @@ public final class ExecutableUtil {
 		}
 	};
 	
+	/**
+	 * Relevant methods and constructors are kept by the class which declares
+	 * them. So classes and their class loaders are not held by the cache.
+	 * Empty values mark the absence of a relevant method/constructor
+	 */
+	private static final ClassValue<ConcurrentMap<ExecutableKey, Optional<Executable>>> RESOLVED = 
+			new ClassValue<ConcurrentMap<ExecutableKey, Optional<Executable>>>() {
+				@Override
+				protected ConcurrentMap<ExecutableKey, Optional<Executable>> computeValue(
+						Class<?> type) {
+					return new ConcurrentHashMap<>();
+				}
+			};
+	
 	private ExecutableUtil(){
 		super();
 	}
@@ -107,6 +124,9 @@ public final class ExecutableUtil {
 	 * method match the given argument values. It means that class of each parameter
 	 * should be assignable from the class of given value. Length of method parameterS array
 	 * and length of values array should be equal.
+	 * Results are cached by the class, the method name and classes of given values. So 
+	 * the same call doesn't scan methods again. The returned {@link Method} is shared. 
+	 * Its accessibility shouldn't be changed.
 	 * 
 	 * @param clazz is the {@link Class} whose {@link Method} should be returned
 	 * @param methodName is the name of the {@link Method} which is supposed to be returned
@@ -115,6 +135,13 @@ public final class ExecutableUtil {
 	 * will be returned
 	 */
 	public static Method getRelevantMethod(Class<?> clazz, String methodName, Object[] argValues){
+		return (Method) RESOLVED.get(clazz).computeIfAbsent(
+				new ExecutableKey(methodName, argValues), 
+				key -> Optional.ofNullable(findRelevantMethod(clazz, methodName, argValues)))
+				.orElse(null);
+	}
+	
+	private static Method findRelevantMethod(Class<?> clazz, String methodName, Object[] argValues){
 		Method[] declaredMethods = clazz.getMethods();
 		List<Method> found = new ArrayList<Method>();
 		for (Method m: declaredMethods){
@@ -144,6 +171,9 @@ public final class ExecutableUtil {
 	 * constructor match the given argument values. It means that class of each parameter
 	 * should be assignable from the class of given value. Length of constructor parameters array
 	 * and length of values array should be equal.
+	 * Results are cached by the class and classes of given values. So 
+	 * the same call doesn't scan constructors again. The returned {@link Constructor} is shared. 
+	 * Its accessibility shouldn't be changed.
 	 * 
 	 * @param clazz is the {@link Class} declared {@link Constructor} should be returned
 	 * @param argValues are values which are needed by {@link Constructor} to be returned
@@ -151,6 +181,13 @@ public final class ExecutableUtil {
 	 * will be returned
 	 */
 	public static Constructor<?> getRelevantConstructor(Class<?> clazz, Object[] argValues){
+		return (Constructor<?>) RESOLVED.get(clazz).computeIfAbsent(
+				new ExecutableKey(null, argValues), 
+				key -> Optional.ofNullable(findRelevantConstructor(clazz, argValues)))
+				.orElse(null);
+	}
+	
+	private static Constructor<?> findRelevantConstructor(Class<?> clazz, Object[] argValues){
 		Constructor<?>[] constructors = clazz.getDeclaredConstructors();
 		
 		if (constructors.length == 0){